@@ -0,0 +1,27 @@
+package src;
+
+/**
+ * Shared function suite for the root-finding benchmarks. Each case has f(x) with a
+ * simple root inside [a, b], a starting guess, and a contractive g(x) with the same
+ * fixed point for the fixed-point method.
+ */
+public enum BenchmarkFunctions {
+    POLY("x^3 - x - 2", "(x + 2)^(1/3)", 1.0, 2.0, 1.5),
+    TRIG("cos(x) - x", "cos(x)", 0.0, 1.0, 0.5),
+    EXP("exp(-x) - x", "exp(-x)", 0.0, 1.0, 0.5),
+    SQRT("x^2 - 5", "(x + 5/x) / 2", 2.0, 3.0, 2.5);
+
+    final String f;
+    final String g;
+    final double a;
+    final double b;
+    final double guess;
+
+    BenchmarkFunctions(String f, String g, double a, double b, double guess) {
+        this.f = f;
+        this.g = g;
+        this.a = a;
+        this.b = b;
+        this.guess = guess;
+    }
+}
@@ -0,0 +1,113 @@
+package src;
+
+import java.math.BigDecimal;
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+import net.objecthunter.exp4j.Expression;
+import net.objecthunter.exp4j.ExpressionBuilder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Newton-Raphson under each {@link Methods.DifferenceScheme}, on the shared suite and on
+ * roots far from unit scale. Next to the solve rate, JMH reports the rates of Newton
+ * steps ("iterations"), f evaluations ("evaluations") and unconverged solves
+ * ("failures"); dividing one by the score gives the count per solve.
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar Derivative -p function=LOG_LARGE,CUBE_TINY
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DerivativeBenchmark {
+    /** Cases with their tolerance and typical x; the last three have roots near 5e8, 1e-6 and 1e8. */
+    public enum Case {
+        POLY(BenchmarkFunctions.POLY, 1e-8),
+        TRIG(BenchmarkFunctions.TRIG, 1e-8),
+        EXP(BenchmarkFunctions.EXP, 1e-8),
+        SQRT(BenchmarkFunctions.SQRT, 1e-8),
+        LOG_LARGE("log(x) - 20", 1e8, 1e-4),
+        CUBE_TINY("x^3 - 1e-18", 3e-6, 1e-14, 1e-6),
+        SQUARE_LARGE("x^2 - 1e16", 3e8, 1e-4);
+
+        final String f;
+        final double guess;
+        final double tolerance;
+        final double typicalX;
+
+        Case(BenchmarkFunctions function, double tolerance) {
+            this(function.f, function.guess, tolerance);
+        }
+
+        Case(String f, double guess, double tolerance) {
+            this(f, guess, tolerance, 1);
+        }
+
+        Case(String f, double guess, double tolerance, double typicalX) {
+            this.f = f;
+            this.guess = guess;
+            this.tolerance = tolerance;
+            this.typicalX = typicalX;
+        }
+    }
+
+    @Param({"POLY", "TRIG", "EXP", "SQRT", "LOG_LARGE", "CUBE_TINY", "SQUARE_LARGE"})
+    public Case function;
+
+    @Param({"FIXED", "FORWARD", "CENTRAL", "RICHARDSON"})
+    public Methods.DifferenceScheme scheme;
+
+    private Expression f;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long iterations;
+        public long evaluations;
+        public long failures;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            iterations = 0;
+            evaluations = 0;
+            failures = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        f = new ExpressionBuilder(function.f).variable("x").build();
+    }
+
+    @Benchmark
+    public Stack<Double> newtonRaphson(Counters counters) {
+        // A fresh Methods per solve so the memo does not carry over between solves
+        Methods methods = new Methods(SolveJob.DEFAULT_MAX_ITERATIONS);
+        methods.setTolerance(BigDecimal.valueOf(function.tolerance));
+        methods.setDifferenceScheme(scheme);
+        methods.setTypicalX(function.typicalX);
+        Stack<Double> xn = methods.newtonRaphson(f, function.guess, new Stack<>());
+        counters.iterations += xn.size() - 1;
+        counters.evaluations += methods.getEvaluationCount();
+        if (methods.getFailureReason() != null) {
+            counters.failures++;
+        }
+        return xn;
+    }
+}
@@ -0,0 +1,94 @@
+package src;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dense matrix product and Cramer's rule across matrix sizes. Cramer uses cofactor
+ * expansion, so its sizes are kept small.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixBenchmark {
+
+    @State(Scope.Thread)
+    public static class MultiplyState {
+        @Param({"8", "64", "256"})
+        public int size;
+
+        double[][] a;
+        double[][] b;
+        Methods methods;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(42);
+            a = randomMatrix(random, size, size);
+            b = randomMatrix(random, size, size);
+            methods = new Methods(SolveJob.DEFAULT_MAX_ITERATIONS);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class CramerState {
+        @Param({"3", "5", "7"})
+        public int size;
+
+        double[][] augmented;
+        Methods methods;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(42);
+            augmented = randomMatrix(random, size, size + 1);
+            for (int i = 0; i < size; i++) {
+                augmented[i][i] += size;
+            }
+            methods = new Methods(SolveJob.DEFAULT_MAX_ITERATIONS);
+        }
+    }
+
+    static double[][] randomMatrix(Random random, int rows, int cols) {
+        double[][] m = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = random.nextDouble() * 2 - 1;
+            }
+        }
+        return m;
+    }
+
+    @Benchmark
+    public double[][] methodsMatrixMultiplication(MultiplyState s) {
+        return s.methods.matrixMultiplication(s.a, s.b);
+    }
+
+    @Benchmark
+    public double[][] backendMultiplyMatrices(MultiplyState s) {
+        return CalculatorBackend.multiplyMatrices(s.a, s.b);
+    }
+
+    @Benchmark
+    public double[] methodsCramer(CramerState s) {
+        return s.methods.cramer(s.augmented);
+    }
+
+    @Benchmark
+    public double[] backendSolveCramer(CramerState s) {
+        return CalculatorBackend.solveCramer(s.augmented);
+    }
+}
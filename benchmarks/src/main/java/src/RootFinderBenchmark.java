@@ -0,0 +1,115 @@
+package src;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+import net.objecthunter.exp4j.Expression;
+import net.objecthunter.exp4j.ExpressionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of every root finder, both the raw {@link Methods} recursions (with a
+ * pre-built expression) and the {@link CalculatorBackend} entry points (parse, solve,
+ * format history) across the function suite and a range of tolerances.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RootFinderBenchmark {
+    @Param({"POLY", "TRIG", "EXP", "SQRT"})
+    public BenchmarkFunctions function;
+
+    @Param({"1e-4", "1e-8"})
+    public double tolerance;
+
+    private Expression f;
+    private Expression g;
+
+    @Setup
+    public void setup() {
+        f = new ExpressionBuilder(function.f).variable("x").build();
+        g = new ExpressionBuilder(function.g).variable("x").build();
+    }
+
+    // A fresh Methods per solve: a shared one would answer repeat solves from its f(x) memo
+    private Methods methods() {
+        Methods methods = new Methods(SolveJob.DEFAULT_MAX_ITERATIONS);
+        methods.setTolerance(BigDecimal.valueOf(tolerance));
+        return methods;
+    }
+
+    @Benchmark
+    public Stack<Double> methodsNewtonRaphson() {
+        return methods().newtonRaphson(f, function.guess, new Stack<>());
+    }
+
+    @Benchmark
+    public ArrayList<Double> methodsSecant() {
+        return methods().secant(f, function.a, function.b, new ArrayList<>());
+    }
+
+    @Benchmark
+    public LinkedList<Pair<Double, Double>> methodsBisection() {
+        return methods().bisection(f, function.a, function.b, new LinkedList<>());
+    }
+
+    @Benchmark
+    public Object methodsFixedPoint() {
+        return methods().fixedPoint(g, function.guess, new LinkedList<>());
+    }
+
+    @Benchmark
+    public ArrayList<Pair<Double, Double>> methodsFalsePosition() {
+        return methods().falsePosition(f, function.a, function.b, new ArrayList<>());
+    }
+
+    @Benchmark
+    public double methodsNumericalDerivative() {
+        return methods().numericalDerivative(f, function.guess);
+    }
+
+    @Benchmark
+    public Expression methodsParseEquation() {
+        return methods().parseEquation(function.f + " = 0");
+    }
+
+    @Benchmark
+    public CalculatorBackend.Result backendNewtonRaphson() {
+        return CalculatorBackend.newtonRaphson(function.f, function.guess, tolerance, SolveJob.DEFAULT_MAX_ITERATIONS);
+    }
+
+    @Benchmark
+    public CalculatorBackend.Result backendSecant() {
+        return CalculatorBackend.secant(function.f, function.a, function.b, tolerance, SolveJob.DEFAULT_MAX_ITERATIONS);
+    }
+
+    @Benchmark
+    public CalculatorBackend.Result backendBisection() {
+        return CalculatorBackend.bisection(function.f, function.a, function.b, tolerance, SolveJob.DEFAULT_MAX_ITERATIONS);
+    }
+
+    @Benchmark
+    public CalculatorBackend.Result backendFixedPoint() {
+        return CalculatorBackend.fixedPoint(function.g, function.guess, tolerance, SolveJob.DEFAULT_MAX_ITERATIONS);
+    }
+
+    @Benchmark
+    public CalculatorBackend.Result backendFalsePosition() {
+        return CalculatorBackend.falsePosition(function.f, function.a, function.b, tolerance, SolveJob.DEFAULT_MAX_ITERATIONS);
+    }
+}
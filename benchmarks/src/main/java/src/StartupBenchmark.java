@@ -0,0 +1,111 @@
+package src;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Wall-clock time for a fresh JVM to start from the core jar, solve one equation via
+ * {@link CalculatorCli} and exit. Run from the repository root after {@code mvn package},
+ * or point {@code -Dstartup.jar=...} at the core jar. {@code baseline} runs
+ * {@code java -version} for comparison; {@code cds=true} uses an AppCDS archive recorded
+ * during setup.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+    private static final String JOB = "newton,x^2-4,3,,1e-6\n";
+
+    @Param({"false", "true"})
+    public boolean cds;
+
+    private String java;
+    private String jar;
+    private Path archive;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        jar = System.getProperty("startup.jar", "core/target/core-1.0-SNAPSHOT.jar");
+        if (!new File(jar).isFile()) {
+            throw new IllegalStateException("Core jar not found at " + new File(jar).getAbsolutePath()
+                    + "; run mvn package first or pass -Dstartup.jar=...");
+        }
+        if (cds) {
+            archive = Files.createTempFile("core", ".jsa");
+            Files.delete(archive);
+            run(command("-XX:ArchiveClassesAtExit=" + archive));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (archive != null) {
+            Files.deleteIfExists(archive);
+        }
+    }
+
+    @Benchmark
+    public int solveOne() throws Exception {
+        return run(cds ? command("-XX:SharedArchiveFile=" + archive) : command());
+    }
+
+    @Benchmark
+    public int baseline() throws Exception {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(java);
+        cmd.add("-XX:TieredStopAtLevel=1");
+        cmd.add("-version");
+        return run(cmd);
+    }
+
+    private List<String> command(String... extra) {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(java);
+        cmd.add("-XX:TieredStopAtLevel=1");
+        for (String e : extra) {
+            cmd.add(e);
+        }
+        cmd.add("-jar");
+        cmd.add(jar);
+        return cmd;
+    }
+
+    private static int run(List<String> cmd) throws Exception {
+        Process p = new ProcessBuilder(cmd)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try (OutputStream in = p.getOutputStream()) {
+            in.write(JOB.getBytes(StandardCharsets.UTF_8));
+        }
+        int exit = p.waitFor();
+        if (exit != 0) {
+            throw new IllegalStateException("Child JVM exited with " + exit + ": " + cmd);
+        }
+        return exit;
+    }
+}
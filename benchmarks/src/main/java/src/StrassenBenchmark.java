@@ -0,0 +1,68 @@
+package src;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Classic dense product against Strassen across sizes and cutoffs. The smallest size at
+ * which {@code strassen} beats {@code classic} is the host's crossover; use it for
+ * {@code -Dcalculator.strassen.threshold}. Sizes include non-powers of two to show the
+ * cost of padding.
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar StrassenBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class StrassenBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Matrices {
+        @Param({"128", "256", "384", "512", "768", "1024"})
+        public int size;
+
+        double[][] a;
+        double[][] b;
+        Methods methods;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(42);
+            a = MatrixBenchmark.randomMatrix(random, size, size);
+            b = MatrixBenchmark.randomMatrix(random, size, size);
+            methods = new Methods(SolveJob.DEFAULT_MAX_ITERATIONS);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Cutoff {
+        @Param({"64", "128", "256"})
+        public int cutoff;
+    }
+
+    @Benchmark
+    public double[][] classic(Matrices m) {
+        return m.methods.matrixMultiplication(m.a, m.b);
+    }
+
+    @Benchmark
+    public double[][] strassen(Matrices m, Cutoff c) {
+        return Strassen.multiply(m.a, m.b, c.cutoff, ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,96 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+
+class EigenvalueTest {
+    private static Methods methods() {
+        Methods m = new Methods(500);
+        m.setTolerance(new BigDecimal("1e-10"));
+        return m;
+    }
+
+    @Test
+    void powerIterationFindsDominantEigenpair() {
+        Methods m = methods();
+        ArrayList<Double> lambdas = new ArrayList<>();
+        double[] x = m.powerIteration(new double[][] {{2, 1}, {1, 2}}, new double[] {1, 0}, lambdas, new ArrayList<>());
+        assertNull(m.getFailureReason());
+        assertEquals(3, lambdas.get(lambdas.size() - 1), 1e-9);
+        assertEquals(Math.abs(x[0]), Math.abs(x[1]), 1e-6);
+    }
+
+    @Test
+    void rayleighQuotientIterationConvergesToEigenvalueNearShift() {
+        Methods m = methods();
+        ArrayList<Double> lambdas = new ArrayList<>();
+        double[][] a = {{2, -1, 0}, {-1, 2, -1}, {0, -1, 2}};
+        m.rayleighQuotientIteration(a, new double[] {1, 0.3, -0.2}, 0.5, lambdas, new ArrayList<>());
+        assertNull(m.getFailureReason());
+        assertEquals(2 - Math.sqrt(2), lambdas.get(lambdas.size() - 1), 1e-9);
+        assertTrue(lambdas.size() <= 8, "iterations: " + lambdas.size());
+    }
+
+    @Test
+    void qrEigenvaluesOfSymmetricMatrix() {
+        double[][] eig = qr(new double[][] {{2, -1, 0}, {-1, 2, -1}, {0, -1, 2}});
+        assertArrayEquals(new double[] {2 - Math.sqrt(2), 2, 2 + Math.sqrt(2)}, eig[0], 1e-10);
+        assertArrayEquals(new double[3], eig[1], 1e-12);
+    }
+
+    @Test
+    void qrEigenvaluesOfNonSymmetricMatrix() {
+        double[][] eig = qr(new double[][] {{4, 1, 2}, {0, 3, 5}, {0, 0, -1}});
+        assertArrayEquals(new double[] {-1, 3, 4}, eig[0], 1e-10);
+        assertArrayEquals(new double[3], eig[1], 1e-12);
+    }
+
+    @Test
+    void qrEigenvaluesReturnsComplexConjugatePairs() {
+        // Rotation-scaling block 1 ± 2i, plus 3, hidden by a similarity transform
+        double[][] d = {{1, -2, 0}, {2, 1, 0}, {0, 0, 3}};
+        double[][] p = {{1, 1, 0}, {0, 1, 1}, {1, 0, 1}};
+        double[][] pInverse = new LUDecomposition(p).inverse();
+        Methods m = methods();
+        double[][] a = m.matrixMultiplication(m.matrixMultiplication(p, d), pInverse);
+        double[][] eig = qr(a);
+        assertArrayEquals(new double[] {1, 1, 3}, eig[0], 1e-9);
+        assertArrayEquals(new double[] {-2, 2, 0}, eig[1], 1e-9);
+    }
+
+    @Test
+    void qrEigenvaluesOfPureRotation() {
+        double[][] eig = qr(new double[][] {{0, -1}, {1, 0}});
+        assertArrayEquals(new double[] {0, 0}, eig[0], 1e-12);
+        assertArrayEquals(new double[] {-1, 1}, eig[1], 1e-12);
+    }
+
+    // Runs the QR algorithm and returns {re, im}, sorted by real then imaginary part
+    private static double[][] qr(double[][] a) {
+        Methods m = methods();
+        int n = a.length;
+        double[] re = new double[n];
+        double[] im = new double[n];
+        assertTrue(m.qrEigenvalues(a, re, im, new ArrayList<>(), new ArrayList<>()), m.getFailureReason());
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> Math.round(re[i] * 1e8) / 1e8)
+                .thenComparingDouble(i -> im[i]));
+        double[][] sorted = new double[2][n];
+        for (int i = 0; i < n; i++) {
+            sorted[0][i] = re[order[i]];
+            sorted[1][i] = im[order[i]];
+        }
+        return sorted;
+    }
+}
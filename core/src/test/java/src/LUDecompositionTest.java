@@ -0,0 +1,38 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LUDecompositionTest {
+    private final TestMatrices random = new TestMatrices(40);
+    private final Methods methods = new Methods(100);
+
+    @Test
+    void solveMatchesCramer() {
+        for (int n = 1; n <= 6; n++) {
+            double[][] a = random.diagonallyHeavy(n);
+            double[] b = random.vector(n);
+            double[] expected = methods.cramer(TestMatrices.augment(a, b));
+            assertArrayEquals(expected, new LUDecomposition(a).solve(b), 1e-10, "n = " + n);
+        }
+    }
+
+    @Test
+    void oneFactorizationSolvesSeveralRightHandSides() {
+        double[][] a = random.diagonallyHeavy(5);
+        LUDecomposition lu = new LUDecomposition(a);
+        for (int k = 0; k < 3; k++) {
+            double[] x = random.vector(5);
+            assertArrayEquals(x, lu.solve(TestMatrices.multiply(a, x)), 1e-12);
+        }
+    }
+
+    @Test
+    void determinantAndSingularity() {
+        assertEquals(-2, new LUDecomposition(new double[][] {{1, 2}, {3, 4}}).determinant(), 1e-12);
+        assertTrue(new LUDecomposition(new double[][] {{1, 2}, {2, 4}}).isSingular());
+    }
+}
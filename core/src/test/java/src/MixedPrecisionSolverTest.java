@@ -0,0 +1,58 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class MixedPrecisionSolverTest {
+    private final TestMatrices random = new TestMatrices(41);
+
+    @Test
+    void refinementReachesDoubleAccuracy() {
+        double[][] a = random.diagonallyHeavy(20);
+        double[] x = random.vector(20);
+        MixedPrecisionSolver.Solution solution = MixedPrecisionSolver.solve(a, TestMatrices.multiply(a, x),
+                MixedPrecisionSolver.DEFAULT_MAX_REFINEMENTS);
+        assertFalse(solution.usedDoubleFallback());
+        assertTrue(solution.getRefinements() >= 1);
+        assertEquals(solution.getRefinements() + 1, solution.getBackwardErrors().size());
+        assertTrue(solution.getBackwardError() <= Math.sqrt(20) * Math.ulp(1.0) / 2);
+        assertArrayEquals(x, solution.getSolution(), 1e-12);
+    }
+
+    @Test
+    void hilbertMatrixFallsBackToDoubleLu() {
+        // cond(H10) is about 1.6e13, far beyond 1/eps_float; the float estimate saturates lower
+        int n = 10;
+        double[][] augmented = new double[n][n + 1];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                augmented[i][j] = 1.0 / (i + j + 1);
+                augmented[i][n] += augmented[i][j];
+            }
+        }
+        SolverMetrics.global().reset();
+        MixedPrecisionSolver.Solution solution = CalculatorBackend.solveMixedPrecision(augmented);
+        assertTrue(solution.usedDoubleFallback());
+        assertTrue(solution.getConditionEstimate() > 1e7, "condition " + solution.getConditionEstimate());
+        // One entry per float solve or refinement round, plus the double solve
+        assertEquals(solution.getRefinements() + 2, solution.getBackwardErrors().size());
+        assertTrue(solution.getBackwardError() <= 1e-15, "backward error " + solution.getBackwardError());
+        assertEquals(solution.getBackwardError(),
+                solution.getBackwardErrors().get(solution.getBackwardErrors().size() - 1));
+
+        SolverMetrics.Snapshot fallback = null;
+        for (SolverMetrics.Snapshot s : SolverMetrics.global().snapshot()) {
+            assertFalse(s.method.equals("mixed-precision"), "fallback recorded as a refined solve");
+            if (s.method.equals("mixed-precision-fallback")) {
+                fallback = s;
+            }
+        }
+        assertEquals(1, fallback.calls);
+        assertEquals(1, fallback.converged);
+        assertEquals(0, fallback.failed);
+    }
+}
@@ -0,0 +1,56 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import net.objecthunter.exp4j.Expression;
+import org.junit.jupiter.api.Test;
+
+class NonlinearSystemTest {
+    private static final String[] VARIABLES = {"x", "y"};
+    // Circle of radius 2 meets the line y = x at (√2, √2)
+    private static final String[] EQUATIONS = {"x^2 + y^2 = 4", "x - y = 0"};
+    private static final double[] ROOT = {Math.sqrt(2), Math.sqrt(2)};
+
+    @Test
+    void newtonSolvesTwoByTwoSystem() {
+        assertSolves(false, false);
+        assertSolves(false, true);
+    }
+
+    @Test
+    void broydenSolvesTwoByTwoSystem() {
+        assertSolves(true, false);
+    }
+
+    @Test
+    void backendSolversConvergeToKnownRoot() {
+        CalculatorBackend.LinearResult newton = CalculatorBackend.newtonSystem(EQUATIONS, VARIABLES,
+                new double[] {1, 2}, 1e-10, 50);
+        CalculatorBackend.LinearResult broyden = CalculatorBackend.broyden(EQUATIONS, VARIABLES,
+                new double[] {1, 2}, 1e-10, 50);
+        assertTrue(newton.hasConverged());
+        assertTrue(broyden.hasConverged());
+        assertArrayEquals(ROOT, newton.getSolution(), 1e-9);
+        assertArrayEquals(ROOT, broyden.getSolution(), 1e-9);
+    }
+
+    private static void assertSolves(boolean broyden, boolean parallel) {
+        Methods m = new Methods(50);
+        m.setTolerance(new BigDecimal("1e-12"));
+        Expression[] f = new Expression[EQUATIONS.length];
+        for (int i = 0; i < f.length; i++) {
+            f[i] = Methods.parseSystemEquation(EQUATIONS[i], VARIABLES);
+        }
+        ArrayList<Double> residuals = new ArrayList<>();
+        double[] x = broyden
+                ? m.broyden(f, VARIABLES, new double[] {1, 2}, parallel, new ArrayList<>(), residuals)
+                : m.newtonSystem(f, VARIABLES, new double[] {1, 2}, parallel, new ArrayList<>(), residuals);
+        assertNull(m.getFailureReason());
+        assertArrayEquals(ROOT, x, 1e-10);
+        assertTrue(residuals.get(residuals.size() - 1) <= 1e-12);
+    }
+}
@@ -0,0 +1,82 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Stack;
+import net.objecthunter.exp4j.Expression;
+import net.objecthunter.exp4j.ExpressionBuilder;
+import org.junit.jupiter.api.Test;
+
+class NumericalDerivativeTest {
+    private static Expression parse(String function) {
+        return new ExpressionBuilder(function).variable("x").build();
+    }
+
+    private static Methods methods(String tolerance) {
+        Methods m = new Methods(100);
+        m.setTolerance(new BigDecimal(tolerance));
+        return m;
+    }
+
+    @Test
+    void derivativeAtZeroWithTightTolerance() {
+        // The step must not shrink with the tolerance: h ~ 1e-17 cancels to f' = 0
+        Methods m = methods("1e-12");
+        Stack<Double> xn = m.newtonRaphson(parse("cos(x) - x"), 0, new Stack<>());
+        assertNull(m.getFailureReason());
+        assertEquals(0.739085133215, xn.peek(), 1e-12);
+        assertTrue(xn.size() - 1 <= 6);
+    }
+
+    @Test
+    void everySchemeDifferentiatesAccurately() {
+        Expression f = parse("x^3 - 2*x + 2");
+        for (Methods.DifferenceScheme scheme : Methods.DifferenceScheme.values()) {
+            Methods m = methods("1e-6");
+            m.setDifferenceScheme(scheme);
+            double tolerance = scheme == Methods.DifferenceScheme.FORWARD ? 1e-7 : 1e-9;
+            assertEquals(-2, m.numericalDerivative(f, 0), tolerance, scheme.name());
+            assertEquals(10, m.numericalDerivative(f, 2), tolerance * 10, scheme.name());
+        }
+    }
+
+    @Test
+    void forwardSchemeReusesKnownFunctionValue() {
+        Methods m = methods("1e-6");
+        m.setDifferenceScheme(Methods.DifferenceScheme.FORWARD);
+        Expression f = parse("exp(x)");
+        m.numericalDerivative(f, 1, Math.E);
+        assertEquals(1, m.getEvaluationCount());
+    }
+
+    @Test
+    void relativeStepHandlesLargeRoots() {
+        Methods fixed = methods("1e-4");
+        fixed.setDifferenceScheme(Methods.DifferenceScheme.FIXED);
+        Stack<Double> slow = fixed.newtonRaphson(parse("log(x) - 20"), 1e8, new Stack<>());
+        Methods central = methods("1e-4");
+        Stack<Double> fast = central.newtonRaphson(parse("log(x) - 20"), 1e8, new Stack<>());
+        assertNull(central.getFailureReason());
+        assertEquals(Math.exp(20), fast.peek(), 1e-3);
+        assertTrue(fast.size() < slow.size(), fast.size() + " vs " + slow.size());
+    }
+
+    @Test
+    void typicalXScalesStepForTinyRoots() {
+        Methods m = methods("1e-14");
+        m.setTypicalX(1e-6);
+        Stack<Double> xn = m.newtonRaphson(parse("x^3 - 1e-18"), 3e-6, new Stack<>());
+        assertNull(m.getFailureReason());
+        assertEquals(1e-6, xn.peek(), 1e-13);
+    }
+
+    @Test
+    void flatStartIsRejectedAsZeroDerivative() {
+        Methods m = methods("1e-8");
+        m.newtonRaphson(parse("x^2 + 1"), 0, new Stack<>());
+        assertEquals("Derivative is zero", m.getFailureReason());
+    }
+}
@@ -0,0 +1,79 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PortfolioSolverTest {
+    @BeforeEach
+    void resetWins() {
+        PortfolioSolver.resetStatistics();
+    }
+
+    @Test
+    void winnerIsRecordedAndLosersCancelled() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CalculatorBackend.Result result = PortfolioSolver.solve("x^2 - 4", 1, 3, 1e-10, 100, cancelled);
+        assertTrue(result.hasConverged());
+        assertEquals(2, result.getRoot(), 1e-9);
+        assertTrue(cancelled.get());
+
+        String winner = winner();
+        assertTrue(result.getHistory().contains(winner + ": root"), result.getHistory());
+        assertTrue(result.getHistory().contains("(winner)"), result.getHistory());
+        assertEquals(1, PortfolioSolver.getWins().get(winner));
+        assertEquals(1, totalWins());
+    }
+
+    @Test
+    void functionWithoutRootHasNoWinner() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CalculatorBackend.Result result = PortfolioSolver.solve("x^2 + 1", 1, 2, 1e-10, 100, cancelled);
+        assertFalse(result.hasConverged());
+        assertEquals("No method found a verified root", result.getFailureReason());
+        assertFalse(cancelled.get());
+        assertEquals(0, totalWins());
+        assertTrue(PortfolioSolver.toText().contains("portfolio_no_winner_total 1"), PortfolioSolver.toText());
+    }
+
+    @Test
+    void orderingFollowsPastWins() {
+        assertEquals(Arrays.asList(PortfolioSolver.CANDIDATES), PortfolioSolver.ordering());
+
+        PortfolioSolver.solve("x^2 - 4", 1, 3, 1e-10, 100);
+        String winner = winner();
+        List<String> expected = new ArrayList<>();
+        expected.add(winner);
+        for (String method : PortfolioSolver.CANDIDATES) {
+            if (!method.equals(winner)) {
+                expected.add(method);
+            }
+        }
+        assertEquals(expected, PortfolioSolver.ordering());
+    }
+
+    private static String winner() {
+        for (Map.Entry<String, Long> e : PortfolioSolver.getWins().entrySet()) {
+            if (e.getValue() > 0) {
+                return e.getKey();
+            }
+        }
+        throw new AssertionError("No win recorded");
+    }
+
+    private static long totalWins() {
+        long total = 0;
+        for (long wins : PortfolioSolver.getWins().values()) {
+            total += wins;
+        }
+        return total;
+    }
+}
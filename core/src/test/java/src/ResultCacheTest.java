@@ -0,0 +1,74 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ResultCacheTest {
+    private static CalculatorBackend.Result result(double root) {
+        return new CalculatorBackend.Result(root, "", new ArrayList<>(), true);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedFirst() {
+        // Capacity 3 is split into segments of 2 and 1; use three keys of the larger one
+        ResultCache cache = new ResultCache(3, 0);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; keys.size() < 3; i++) {
+            if (cache.segmentIndex("k" + i) == 0) {
+                keys.add("k" + i);
+            }
+        }
+        CalculatorBackend.Result first = result(1);
+        cache.put(keys.get(0), first);
+        cache.put(keys.get(1), result(2));
+        assertSame(first, cache.get(keys.get(0)));
+        cache.put(keys.get(2), result(3));
+
+        assertEquals(1, cache.getEvictions());
+        assertNull(cache.get(keys.get(1)));
+        assertSame(first, cache.get(keys.get(0)));
+        assertNotNull(cache.get(keys.get(2)));
+    }
+
+    @Test
+    void entriesExpireAfterTimeToLive() throws InterruptedException {
+        ResultCache cache = new ResultCache(10, 50);
+        cache.put("a", result(1));
+        assertNotNull(cache.get("a"));
+        Thread.sleep(100);
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.getExpirations());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void hugeTimeToLiveNeverExpires() {
+        // ttlMillis * 1e6 would overflow to a negative TTL and expire everything at once
+        ResultCache cache = new ResultCache(10, Long.MAX_VALUE / 1000);
+        cache.put("a", result(1));
+        assertNotNull(cache.get("a"));
+        assertEquals(0, cache.getExpirations());
+    }
+
+    @Test
+    void totalCapacityIsExactAcrossSegments() {
+        for (int capacity : new int[] {1, 3, 17, 100}) {
+            ResultCache cache = new ResultCache(capacity, 0);
+            for (int i = 0; i < 10 * capacity; i++) {
+                cache.put("key" + i, result(i));
+            }
+            assertEquals(capacity, cache.size(), "capacity " + capacity);
+            assertEquals(9L * capacity, cache.getEvictions(), "capacity " + capacity);
+        }
+        ResultCache disabled = new ResultCache(0, 0);
+        disabled.put("a", result(1));
+        assertNull(disabled.get("a"));
+        assertEquals(0, disabled.size());
+    }
+}
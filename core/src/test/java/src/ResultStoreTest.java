@@ -0,0 +1,163 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultStoreTest {
+    @TempDir
+    Path dir;
+
+    private static CalculatorBackend.Result newtonResult(double root) {
+        List<CalculatorBackend.IterationStep> steps = List.of(
+                new CalculatorBackend.IterationStep(1, 3, 5, 6, 1, true),
+                new CalculatorBackend.IterationStep(2, root, 0, 4, 1e-9, false));
+        return new CalculatorBackend.Result(root, "Iteration 1: x = 3\n", steps, true);
+    }
+
+    private static CalculatorBackend.Result bisectionResult() {
+        List<CalculatorBackend.IterationStep> steps = List.of(
+                new CalculatorBackend.IterationStep(1, 1.5, -0.75, Double.NaN, 0.5, 1.0, 2.0));
+        return new CalculatorBackend.Result(1.5, "", steps, false, "Maximum iterations reached");
+    }
+
+    @Test
+    void reopenReturnsStoredResults() throws IOException {
+        Path file = dir.resolve("results.bin");
+        try (ResultStore store = new ResultStore(file, false)) {
+            store.put("newton", newtonResult(2));
+            store.put("bisection", bisectionResult());
+        }
+        try (ResultStore store = new ResultStore(file, false)) {
+            assertEquals(2, store.size());
+            CalculatorBackend.Result newton = store.get("newton");
+            assertEquals(2, newton.getRoot());
+            assertTrue(newton.hasConverged());
+            assertEquals("Iteration 1: x = 3\n", newton.getHistory());
+            assertEquals(2, newton.getSteps().size());
+            assertEquals(Boolean.TRUE, newton.getSteps().get(0).getDerivativeRefreshed());
+            assertEquals(4, newton.getSteps().get(1).getFpx());
+
+            CalculatorBackend.Result bisection = store.get("bisection");
+            assertFalse(bisection.hasConverged());
+            assertEquals("Maximum iterations reached", bisection.getFailureReason());
+            CalculatorBackend.IterationStep step = bisection.getSteps().get(0);
+            assertEquals(1.0, step.getA());
+            assertEquals(2.0, step.getB());
+            assertTrue(Double.isNaN(step.getFpx()));
+            assertNull(store.get("missing"));
+        }
+    }
+
+    @Test
+    void truncatedLastRecordIsDropped() throws IOException {
+        Path file = dir.resolve("results.bin");
+        long firstEnd;
+        try (ResultStore store = new ResultStore(file, false)) {
+            store.put("first", newtonResult(2));
+            firstEnd = store.getFileSize();
+            store.put("second", newtonResult(3));
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - 5);
+        }
+        try (ResultStore store = new ResultStore(file, false)) {
+            assertEquals(1, store.size());
+            assertEquals(2, store.get("first").getRoot());
+            assertNull(store.get("second"));
+            assertEquals(firstEnd, store.getFileSize());
+        }
+        assertEquals(firstEnd, Files.size(file));
+    }
+
+    @Test
+    void recordWithBadCrcIsRejected() throws IOException {
+        Path file = dir.resolve("results.bin");
+        long firstEnd;
+        try (ResultStore store = new ResultStore(file, false)) {
+            store.put("first", newtonResult(2));
+            firstEnd = store.getFileSize();
+            store.put("second", newtonResult(3));
+            store.put("third", newtonResult(4));
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            // Flip a byte inside the second record's payload, past its length and CRC
+            long offset = firstEnd + 12;
+            raf.seek(offset);
+            int b = raf.read();
+            raf.seek(offset);
+            raf.write(b ^ 0xFF);
+        }
+        try (ResultStore store = new ResultStore(file, false)) {
+            // The corrupt record and everything after it are cut off
+            assertEquals(1, store.size());
+            assertEquals(2, store.get("first").getRoot());
+            assertNull(store.get("second"));
+            assertNull(store.get("third"));
+            assertEquals(firstEnd, store.getFileSize());
+        }
+    }
+
+    @Test
+    void compactKeepsLatestValuePerKey() throws IOException {
+        Path file = dir.resolve("results.bin");
+        try (ResultStore store = new ResultStore(file, false)) {
+            store.put("a", newtonResult(1));
+            store.put("b", newtonResult(2));
+            store.put("a", newtonResult(3));
+            store.put("a", newtonResult(5));
+            assertTrue(store.getDeadBytes() > 0);
+            long before = store.getFileSize();
+
+            store.compact();
+            assertEquals(2, store.size());
+            assertEquals(0, store.getDeadBytes());
+            assertTrue(store.getFileSize() < before);
+            assertEquals(5, store.get("a").getRoot());
+            assertEquals(2, store.get("b").getRoot());
+        }
+        try (ResultStore store = new ResultStore(file, false)) {
+            assertEquals(2, store.size());
+            assertEquals(5, store.get("a").getRoot());
+            assertEquals(2, store.get("b").getRoot());
+        }
+    }
+
+    @Test
+    void fileFromAnotherVersionIsEmptied() throws IOException {
+        Path file = dir.resolve("results.bin");
+        for (int headerOffset : new int[] {4, 8}) {
+            try (ResultStore store = new ResultStore(file, false)) {
+                store.put("a", newtonResult(1));
+            }
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                // Format version at offset 4, solver version at offset 8
+                raf.seek(headerOffset);
+                int version = raf.readInt();
+                raf.seek(headerOffset);
+                raf.writeInt(version + 1);
+            }
+            try (ResultStore store = new ResultStore(file, false)) {
+                assertEquals(0, store.size());
+                assertNull(store.get("a"));
+            }
+        }
+    }
+
+    @Test
+    void fileWithBadMagicIsRefused() throws IOException {
+        Path file = dir.resolve("results.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 0, 0, 0, 2, 0, 0, 0, 1});
+        assertThrows(IOException.class, () -> new ResultStore(file, false));
+    }
+}
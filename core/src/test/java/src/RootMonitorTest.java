@@ -0,0 +1,55 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Stack;
+import net.objecthunter.exp4j.Expression;
+import net.objecthunter.exp4j.ExpressionBuilder;
+import org.junit.jupiter.api.Test;
+
+class RootMonitorTest {
+    private static Expression parse(String function) {
+        return new ExpressionBuilder(function).variable("x").build();
+    }
+
+    private static Methods methods(String tolerance) {
+        Methods m = new Methods(100);
+        m.setTolerance(new BigDecimal(tolerance));
+        return m;
+    }
+
+    @Test
+    void newtonCycleIsReportedAsFailureWithoutRootLine() {
+        CalculatorBackend.Result result = CalculatorBackend.newtonRaphson("x^3 - 2*x + 2", 0, 1e-6, 100);
+        assertFalse(result.hasConverged());
+        assertNotNull(result.getFailureReason());
+        assertTrue(result.getFailureReason().startsWith("Oscillating") || result.getFailureReason().startsWith("Caught"),
+                result.getFailureReason());
+        String history = result.getHistory();
+        assertFalse(history.contains("Root found"), history);
+        String[] lines = history.split("\n");
+        assertEquals("Stopped: " + result.getFailureReason(), lines[lines.length - 1]);
+    }
+
+    @Test
+    void divergingIterationStopsEarly() {
+        Methods m = methods("1e-8");
+        Stack<Double> xn = m.newtonRaphson(parse("atan(x)"), 1.5, new Stack<>());
+        assertNotNull(m.getFailureReason());
+        assertTrue(xn.size() < 20, "steps: " + xn.size());
+    }
+
+    @Test
+    void convergedSolveStillReportsRoot() {
+        CalculatorBackend.Result result = CalculatorBackend.newtonRaphson("x^2 - 2", 1, 1e-8, 100);
+        assertTrue(result.hasConverged());
+        assertNull(result.getFailureReason());
+        assertTrue(result.getHistory().contains("Root found"));
+        assertEquals(Math.sqrt(2), result.getRoot(), 1e-8);
+    }
+}
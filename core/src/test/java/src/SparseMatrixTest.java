@@ -0,0 +1,91 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class SparseMatrixTest {
+    private final TestMatrices random = new TestMatrices(38);
+    private final Methods methods = new Methods(100);
+
+    @Test
+    void fromTripletsSortsAndSumsDuplicates() {
+        int[] r = {2, 0, 1, 0, 2, 0};
+        int[] c = {1, 2, 0, 0, 1, 2};
+        double[] v = {1, 2, 3, 4, 5, 6};
+        SparseMatrix a = SparseMatrix.fromTriplets(3, 3, r, c, v);
+        assertEquals(4, a.getNonZeros());
+        assertArrayEquals(new double[][] {{4, 0, 8}, {3, 0, 0}, {0, 6, 0}}, a.toDense());
+    }
+
+    @Test
+    void transposeMatchesDense() {
+        double[][] d = sparse(7, 11, 0.3);
+        double[][] t = SparseMatrix.fromDense(d).transpose().toDense();
+        for (int i = 0; i < 7; i++) {
+            for (int j = 0; j < 11; j++) {
+                assertEquals(d[i][j], t[j][i]);
+            }
+        }
+        assertArrayEquals(d, SparseMatrix.fromDense(d).transpose().transpose().toDense());
+    }
+
+    @Test
+    void productsMatchDense() {
+        // Small, then large enough that both products take the parallel path
+        for (int n : new int[] {9, 300}) {
+            double[][] a = sparse(n, n, n == 9 ? 0.3 : 0.4);
+            double[][] b = sparse(n, n, n == 9 ? 0.3 : 0.4);
+            SparseMatrix sa = SparseMatrix.fromDense(a);
+            SparseMatrix sb = SparseMatrix.fromDense(b);
+            if (n > 9) {
+                assertTrue(sa.getNonZeros() >= SparseMatrix.PARALLEL_NNZ, "nnz " + sa.getNonZeros());
+            }
+            double[] x = random.vector(n);
+            assertArrayEquals(TestMatrices.multiply(a, x), sa.multiply(x), 1e-12);
+            assertArrayEquals(TestMatrices.multiply(sa.transpose().toDense(), x), sa.multiplyTranspose(x), 1e-12);
+
+            double[][] expected = methods.matrixMultiplication(a, b);
+            double[][] actual = sa.multiply(sb).toDense();
+            for (int i = 0; i < n; i++) {
+                assertArrayEquals(expected[i], actual[i], 1e-10, "row " + i);
+            }
+        }
+    }
+
+    @Test
+    void conjugateGradientMatchesLu() {
+        // Symmetric pentadiagonal, strictly diagonally dominant: SPD
+        int n = 200;
+        double[][] a = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            a[i][i] = 5;
+            if (i + 1 < n) {
+                a[i][i + 1] = a[i + 1][i] = -1;
+            }
+            if (i + 2 < n) {
+                a[i][i + 2] = a[i + 2][i] = -0.5;
+            }
+        }
+        double[] b = random.vector(n);
+        CalculatorBackend.LinearResult result = CalculatorBackend.conjugateGradient(SparseMatrix.fromDense(a), b,
+                1e-12, 1000);
+        assertTrue(result.hasConverged(), result.getHistory());
+        assertArrayEquals(new LUDecomposition(a).solve(b), result.getSolution(), 1e-10);
+        assertTrue(result.getSteps().size() < n);
+    }
+
+    private double[][] sparse(int rows, int cols, double density) {
+        double[][] d = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (random.nextDouble() < density) {
+                    d[i][j] = random.nextDouble() * 2 - 1;
+                }
+            }
+        }
+        return d;
+    }
+}
@@ -0,0 +1,32 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class StrassenTest {
+    private final TestMatrices random = new TestMatrices(39);
+    private final Methods methods = new Methods(100);
+
+    @Test
+    void matchesNaiveProduct() {
+        // Odd and non-power-of-two sizes exercise the padding
+        for (int n : new int[] {1, 7, 16, 33, 100}) {
+            double[][] a = random.matrix(n, n);
+            double[][] b = random.matrix(n, n);
+            double[][] expected = methods.matrixMultiplication(a, b);
+            double[][] actual = Strassen.multiply(a, b, 8, ForkJoinPool.commonPool());
+            for (int i = 0; i < n; i++) {
+                assertArrayEquals(expected[i], actual[i], 1e-9 * n, "n = " + n + ", row " + i);
+            }
+        }
+    }
+
+    @Test
+    void rejectsNonSquareInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Strassen.multiply(random.matrix(2, 3), random.matrix(3, 2)));
+    }
+}
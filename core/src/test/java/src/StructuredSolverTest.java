@@ -0,0 +1,65 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.junit.jupiter.api.Test;
+
+class StructuredSolverTest {
+    private final TestMatrices random = new TestMatrices(42);
+
+    @Test
+    void tridiagonalWithoutDominanceUsesPivotingBandedLu() {
+        // Thomas without pivoting returned x0 = -1.49e-8 here; the exact value is -1.00e-8
+        double[][] a = {{1e-8, 1, 0}, {1, 1e-8, 1}, {0, 1, 1}};
+        double[] b = {1, 2, 3};
+        StructuredSolver.Solution solution = StructuredSolver.solve(a, b);
+        assertEquals(StructuredSolver.Path.BANDED, solution.getPath());
+        assertNotNull(solution.getNote());
+        double[] expected = new LUDecomposition(a).solve(b);
+        double[] x = solution.getSolution();
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(expected[i], x[i], 1e-12 + Math.abs(expected[i]) * 1e-6);
+        }
+        assertEquals(-1e-8, x[0], 1e-14);
+    }
+
+    @Test
+    void diagonallyDominantTridiagonalUsesThomas() {
+        int n = 50;
+        double[][] a = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            a[i][i] = 2;
+            if (i > 0) {
+                a[i][i - 1] = -1;
+            }
+            if (i + 1 < n) {
+                a[i][i + 1] = -1;
+            }
+        }
+        double[] x = random.vector(n);
+        StructuredSolver.Solution solution = StructuredSolver.solve(a, TestMatrices.multiply(a, x));
+        assertEquals(StructuredSolver.Path.TRIDIAGONAL, solution.getPath());
+        assertArrayEquals(x, solution.getSolution(), 1e-9);
+    }
+
+    @Test
+    void bandedAndDenseSystemsMatchLu() {
+        int n = 60;
+        double[][] banded = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - 2); j <= Math.min(n - 1, i + 3); j++) {
+                banded[i][j] = random.nextDouble() - 0.5 + (i == j ? 4 : 0);
+            }
+        }
+        double[] x = random.vector(n);
+        StructuredSolver.Solution solution = StructuredSolver.solve(banded, TestMatrices.multiply(banded, x));
+        assertEquals(StructuredSolver.Path.BANDED, solution.getPath());
+        assertArrayEquals(x, solution.getSolution(), 1e-10);
+
+        double[][] dense = random.diagonallyHeavy(8);
+        double[] y = random.vector(8);
+        assertArrayEquals(y, StructuredSolver.solve(dense, TestMatrices.multiply(dense, y)).getSolution(), 1e-10);
+    }
+}
@@ -0,0 +1,65 @@
+package src;
+
+import java.util.Random;
+
+/** Seeded random matrices and small helpers shared by the linear-algebra tests. */
+final class TestMatrices {
+    private final Random random;
+
+    TestMatrices(long seed) {
+        random = new Random(seed);
+    }
+
+    double[] vector(int n) {
+        double[] v = new double[n];
+        for (int i = 0; i < n; i++) {
+            v[i] = random.nextDouble() * 2 - 1;
+        }
+        return v;
+    }
+
+    double[][] matrix(int rows, int cols) {
+        double[][] a = new double[rows][];
+        for (int i = 0; i < rows; i++) {
+            a[i] = vector(cols);
+        }
+        return a;
+    }
+
+    /** Random n x n matrix with n added to the diagonal: well conditioned and nonsingular. */
+    double[][] diagonallyHeavy(int n) {
+        double[][] a = matrix(n, n);
+        for (int i = 0; i < n; i++) {
+            a[i][i] += n;
+        }
+        return a;
+    }
+
+    int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    double nextDouble() {
+        return random.nextDouble();
+    }
+
+    static double[][] augment(double[][] a, double[] b) {
+        int n = a.length;
+        double[][] aug = new double[n][n + 1];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(a[i], 0, aug[i], 0, n);
+            aug[i][n] = b[i];
+        }
+        return aug;
+    }
+
+    static double[] multiply(double[][] a, double[] x) {
+        double[] y = new double[a.length];
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < x.length; j++) {
+                y[i] += a[i][j] * x[j];
+            }
+        }
+        return y;
+    }
+}
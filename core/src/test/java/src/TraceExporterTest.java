@@ -0,0 +1,84 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TraceExporterTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void newtonTraceRoundTrips() throws IOException {
+        List<CalculatorBackend.IterationStep> steps = CalculatorBackend.newtonRaphson("x^2 - 4", 3, 1e-10, 50).getSteps();
+        List<CalculatorBackend.IterationStep> read = roundTrip(steps);
+        for (CalculatorBackend.IterationStep step : read) {
+            assertNull(step.getA());
+            assertNull(step.getB());
+        }
+    }
+
+    @Test
+    void bisectionTraceRoundTrips() throws IOException {
+        List<CalculatorBackend.IterationStep> steps = CalculatorBackend.bisection("x^2 - 4", 0, 3, 1e-10, 100).getSteps();
+        List<CalculatorBackend.IterationStep> read = roundTrip(steps);
+        for (int i = 0; i < steps.size(); i++) {
+            assertEquals(steps.get(i).getA(), read.get(i).getA());
+            assertEquals(steps.get(i).getB(), read.get(i).getB());
+        }
+    }
+
+    @Test
+    void truncatedTraceIsRejected() throws IOException {
+        Path file = dir.resolve("trace.ictr");
+        TraceExporter.writeBinary(CalculatorBackend.bisection("x^2 - 4", 0, 3, 1e-10, 100).getSteps(), file);
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - 8);
+        }
+        IOException e = assertThrows(IOException.class, () -> TraceExporter.readBinary(file));
+        assertTrue(e.getMessage().startsWith("Truncated iteration trace"), e.getMessage());
+
+        Files.write(file, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> TraceExporter.readBinary(file));
+    }
+
+    @Test
+    void csvWritesNaNForUndefinedValues() throws IOException {
+        Path file = dir.resolve("trace.csv");
+        TraceExporter.writeCsv(List.of(
+                new CalculatorBackend.IterationStep(1, 1.5, Double.NaN, Double.NaN, 0.5),
+                new CalculatorBackend.IterationStep(2, 1.25, -0.4375, Double.NaN, 0.25, 1.0, 1.5)), file);
+        List<String> lines = Files.readAllLines(file);
+        assertEquals("iteration,x,fx,fpx,error,a,b", lines.get(0));
+        assertEquals("1,1.5,NaN,NaN,0.5,,", lines.get(1));
+        assertEquals("2,1.25,-0.4375,NaN,0.25,1.0,1.5", lines.get(2));
+    }
+
+    private List<CalculatorBackend.IterationStep> roundTrip(List<CalculatorBackend.IterationStep> steps)
+            throws IOException {
+        assertTrue(steps.size() > 1);
+        Path file = dir.resolve("trace.ictr");
+        TraceExporter.writeBinary(steps, file);
+        List<CalculatorBackend.IterationStep> read = TraceExporter.readBinary(file);
+        assertEquals(steps.size(), read.size());
+        for (int i = 0; i < steps.size(); i++) {
+            CalculatorBackend.IterationStep expected = steps.get(i);
+            CalculatorBackend.IterationStep actual = read.get(i);
+            assertEquals(expected.getIteration(), actual.getIteration());
+            assertEquals(expected.getX(), actual.getX());
+            assertEquals(expected.getFx(), actual.getFx());
+            assertEquals(expected.getFpx(), actual.getFpx());
+            assertEquals(expected.getError(), actual.getError());
+        }
+        return read;
+    }
+}
@@ -0,0 +1,47 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class UpdatableLinearSystemTest {
+    private final TestMatrices random = new TestMatrices(43);
+
+    @Test
+    void rankOneUpdatesMatchFreshSolve() {
+        int n = 8;
+        double[][] a = random.diagonallyHeavy(n);
+        UpdatableLinearSystem system = new UpdatableLinearSystem(a);
+        for (int edit = 0; edit < 40; edit++) {
+            int i = random.nextInt(n);
+            if (edit % 3 == 0) {
+                double[] row = a[i].clone();
+                row[random.nextInt(n)] += random.nextDouble() - 0.5;
+                a[i] = row;
+                system.setRow(i, row);
+            } else {
+                int j = random.nextInt(n);
+                a[i][j] += random.nextDouble() - 0.5;
+                system.setEntry(i, j, a[i][j]);
+            }
+            double[] b = random.vector(n);
+            assertArrayEquals(new LUDecomposition(a).solve(b), system.solve(b), 1e-9, "after edit " + edit);
+        }
+        // A refactorization at least every REFACTOR_INTERVAL updates, but not on every edit
+        assertTrue(system.getFactorizations() >= 40 / UpdatableLinearSystem.REFACTOR_INTERVAL);
+        assertTrue(system.getFactorizations() < 40);
+    }
+
+    @Test
+    void setMatrixRefactorsWhenManyRowsChange() {
+        int n = 8;
+        UpdatableLinearSystem system = new UpdatableLinearSystem(random.diagonallyHeavy(n));
+        double[][] replacement = random.diagonallyHeavy(n);
+        system.setMatrix(replacement);
+        assertEquals(2, system.getFactorizations());
+        double[] b = random.vector(n);
+        assertArrayEquals(new LUDecomposition(replacement).solve(b), system.solve(b), 1e-10);
+    }
+}
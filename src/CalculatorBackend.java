@@ -2,17 +2,198 @@ package src;
 
 import net.objecthunter.exp4j.Expression;
 import net.objecthunter.exp4j.ExpressionBuilder;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.math.BigDecimal;
 
 
 public class CalculatorBackend {
+    private static final ResultCache RESULT_CACHE = new ResultCache(
+            Integer.getInteger("calculator.cache.size", 1024),
+            Long.getLong("calculator.cache.ttl.seconds", 600L) * 1000L);
+    private static volatile ResultStore resultStore;
+
+    /**
+     * Runs the root finder named by {@code method}. Accepts the UI method names
+     * ("Newton-Raphson", "False Position", ...) as well as loose spellings such as
+     * "newton" or "false-position". Single-guess methods ignore {@code guess2}.
+     *
+     * Results are served from {@link #getResultCache()} when the same solve was run
+     * recently; size and lifetime come from the {@code calculator.cache.size} and
+     * {@code calculator.cache.ttl.seconds} system properties. Behind the cache, an
+     * attached {@link ResultStore} persists results across restarts.
+     */
+    public static Result solve(String method, String function, double guess1, double guess2, double tolerance, int maxIterations) {
+        String canonical = normalizeMethod(method);
+        String key = cacheKey(canonical, function, guess1, guess2, tolerance, maxIterations);
+        Result result = RESULT_CACHE.get(key);
+        if (result != null) {
+            return result;
+        }
+        ResultStore store = resultStore;
+        result = store == null ? null : store.get(key);
+        if (result == null) {
+            result = solveUncached(canonical, method, function, guess1, guess2, tolerance, maxIterations);
+            if (store != null) {
+                try {
+                    store.put(key, result);
+                } catch (IOException e) {
+                    System.err.println("Result store write failed: " + e.getMessage());
+                }
+            }
+        }
+        RESULT_CACHE.put(key, result);
+        return result;
+    }
+
+    public static ResultCache getResultCache() {
+        return RESULT_CACHE;
+    }
+
+    public static ResultStore getResultStore() {
+        return resultStore;
+    }
+
+    /**
+     * Attaches (or with null detaches) the persistent store consulted by {@link #solve}.
+     */
+    public static void setResultStore(ResultStore store) {
+        resultStore = store;
+    }
+
+    /**
+     * Opens the store named by the {@code calculator.store} system property, if set, and
+     * attaches it. Used by the headless entry points.
+     */
+    public static ResultStore openConfiguredStore() throws IOException {
+        String file = System.getProperty("calculator.store");
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
+        ResultStore store = ResultStore.open(Paths.get(file), Boolean.getBoolean("calculator.store.sync"));
+        setResultStore(store);
+        return store;
+    }
+
+    /**
+     * Canonical identity of a solve; two calls with equal keys always produce the same result.
+     * The second guess only takes part for methods that use it.
+     */
+    public static String cacheKey(String method, String function, double guess1, double guess2, double tolerance, int maxIterations) {
+        String canonical = normalizeMethod(method);
+        StringBuilder sb = new StringBuilder(canonical).append('|');
+        for (int i = 0; function != null && i < function.length(); i++) {
+            char c = function.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        sb.append('|').append(Double.doubleToLongBits(guess1));
+        sb.append('|').append(hasTwoGuesses(canonical) ? Double.doubleToLongBits(guess2) : 0L);
+        sb.append('|').append(Double.doubleToLongBits(tolerance));
+        return sb.append('|').append(maxIterations).toString();
+    }
+
+    private static Result solveUncached(String canonical, String method, String function, double guess1, double guess2,
+                                        double tolerance, int maxIterations) {
+        if (canonical.equals("auto")) {
+            return PortfolioSolver.solve(function, guess1, guess2, tolerance, maxIterations);
+        }
+        return solveWith(new Methods(maxIterations), canonical, method, function, guess1, guess2, tolerance);
+    }
+
+    /**
+     * Runs a single (canonical) root finder on {@code m}, so the caller controls its
+     * iteration budget and cancellation.
+     */
+    static Result solveWith(Methods m, String canonical, String method, String function, double guess1, double guess2,
+                            double tolerance) {
+        switch (canonical) {
+            case "newton-raphson":
+                return newtonRaphson(m, function, guess1, tolerance);
+            case "chord-newton":
+                return chordNewton(m, function, guess1, tolerance);
+            case "shamanskii-newton":
+                return shamanskii(m, function, guess1, tolerance);
+            case "secant":
+                return secant(m, function, guess1, guess2, tolerance);
+            case "bisection":
+                return bisection(m, function, guess1, guess2, tolerance);
+            case "fixed-point":
+                return fixedPoint(m, function, guess1, tolerance);
+            case "false-position":
+                return falsePosition(m, function, guess1, guess2, tolerance);
+            default:
+                throw new IllegalArgumentException("Unknown method: " + method);
+        }
+    }
+
+    /**
+     * Maps a user supplied method name onto its canonical lower-case form,
+     * or returns the cleaned input unchanged if it is not a known root finder.
+     */
+    public static String normalizeMethod(String method) {
+        StringBuilder sb = new StringBuilder();
+        if (method != null) {
+            // Plain loop rather than a regex: this sits on the CLI's cold-start path
+            for (int i = 0; i < method.length(); i++) {
+                char c = Character.toLowerCase(method.charAt(i));
+                if (c >= 'a' && c <= 'z') {
+                    sb.append(c);
+                }
+            }
+        }
+        String key = sb.toString();
+        switch (key) {
+            case "newton":
+            case "newtonraphson":
+                return "newton-raphson";
+            case "chord":
+            case "chordnewton":
+                return "chord-newton";
+            case "shamanskii":
+            case "shamanskiinewton":
+                return "shamanskii-newton";
+            case "secant":
+                return "secant";
+            case "bisection":
+                return "bisection";
+            case "fixedpoint":
+                return "fixed-point";
+            case "falseposition":
+            case "regulafalsi":
+                return "false-position";
+            case "auto":
+            case "portfolio":
+                return "auto";
+            default:
+                return key;
+        }
+    }
+
+    /**
+     * @return true if the (canonical) method needs a second guess / right endpoint
+     */
+    public static boolean hasTwoGuesses(String method) {
+        String m = normalizeMethod(method);
+        return m.equals("secant") || m.equals("bisection") || m.equals("false-position") || m.equals("auto");
+    }
+
     public static Result newtonRaphson(String function, double initialGuess, double tolerance, int maxIterations) {
+        return newtonRaphson(new Methods(maxIterations), function, initialGuess, tolerance);
+    }
+
+    static Result newtonRaphson(Methods m, String function, double initialGuess, double tolerance) {
         StringBuilder history = new StringBuilder();
         List<IterationStep> steps = new ArrayList<>();
+        SolveEvent event = SolveEvent.started();
+        long start = System.nanoTime();
         try {
-            Methods m = new Methods(maxIterations);
             m.setTolerance(BigDecimal.valueOf(tolerance));
             Expression expr = new ExpressionBuilder(function).variable("x").build();
             java.util.Stack<Double> iterates = m.newtonRaphson(expr, initialGuess, new java.util.Stack<>());
@@ -25,7 +206,7 @@ public class CalculatorBackend {
             for (int i = 0; i < iterates.size() - 1; i++) {
                 double x0 = iterates.get(i);
                 double x1 = iterates.get(i+1);
-                double fx = expr.setVariable("x", x0).evaluate();
+                double fx = m.evaluate(expr, x0);
                 double error = Math.abs(x1 - x0);
                 // Compute the derivative at x0
                 double fpx;
@@ -39,23 +220,110 @@ public class CalculatorBackend {
                 steps.add(new IterationStep(i+1, x0, fx, fpx, error));
             }
             double root = iterates.get(iterates.size()-1);
-            double fxRoot = expr.setVariable("x", root).evaluate();
+            double fxRoot = m.evaluate(expr, root);
             String highPrecisionFormat = "%." + (digits + 2) + "f";
-            history.append("\nRoot found: x = " + String.format(highPrecisionFormat, root));
-            history.append("\nFunction value at root: f(x) = " + String.format(highPrecisionFormat, fxRoot));
+            history.append("\n" + outcome(m, "Root found", root, highPrecisionFormat));
+            history.append("\nFunction value at " + (m.getFailureReason() == null ? "root" : "last iterate") + ": f(x) = " + String.format(highPrecisionFormat, fxRoot));
             history.append("\nIterations required: " + (iterates.size()-1));
-            return new Result(root, history.toString(), steps, true);
+            return finish("newton-raphson", function, m, event, start, root, history, steps, true);
         } catch (Exception e) {
             history.append("Error in calculation: " + e.getMessage());
-            return new Result(Double.NaN, history.toString(), steps, false);
+            return finish("newton-raphson", function, m, event, start, Double.NaN, history, steps, false);
         }
     }
     
+    /** Initial refresh interval of {@link #shamanskii}; adapted during the solve. */
+    public static final int SHAMANSKII_INTERVAL = 2;
+
+    /**
+     * Newton-Raphson with the derivative computed once at the initial guess (chord method).
+     * Converges only linearly, but every step after the first costs one evaluation of f.
+     */
+    public static Result chordNewton(String function, double initialGuess, double tolerance, int maxIterations) {
+        return chordNewton(new Methods(maxIterations), function, initialGuess, tolerance);
+    }
+
+    static Result chordNewton(Methods m, String function, double initialGuess, double tolerance) {
+        return reusedDerivativeNewton(m, "chord-newton", "Chord Newton", function, initialGuess, Integer.MAX_VALUE, false,
+                tolerance);
+    }
+
+    /**
+     * Newton-Raphson refreshing the derivative every m steps, starting from
+     * {@link #SHAMANSKII_INTERVAL} and adapting m to how fast the steps shrink.
+     * Steps report whether their derivative was refreshed.
+     */
+    public static Result shamanskii(String function, double initialGuess, double tolerance, int maxIterations) {
+        return shamanskii(new Methods(maxIterations), function, initialGuess, tolerance);
+    }
+
+    static Result shamanskii(Methods m, String function, double initialGuess, double tolerance) {
+        return reusedDerivativeNewton(m, "shamanskii-newton", "Shamanskii Newton", function, initialGuess,
+                SHAMANSKII_INTERVAL, true, tolerance);
+    }
+
+    private static Result reusedDerivativeNewton(Methods m, String method, String title, String function,
+                                                 double initialGuess, int refreshInterval, boolean adaptive,
+                                                 double tolerance) {
+        StringBuilder history = new StringBuilder();
+        List<IterationStep> steps = new ArrayList<>();
+        SolveEvent event = SolveEvent.started();
+        long start = System.nanoTime();
+        try {
+            m.setTolerance(BigDecimal.valueOf(tolerance));
+            Expression expr = new ExpressionBuilder(function).variable("x").build();
+            List<Double> derivatives = new ArrayList<>();
+            List<Boolean> refreshed = new ArrayList<>();
+            java.util.Stack<Double> iterates = m.shamanskii(expr, initialGuess, refreshInterval, adaptive,
+                    new java.util.Stack<>(), derivatives, refreshed);
+            int digits = (int)Math.ceil(-Math.log10(tolerance));
+            String formatStr = "%." + digits + "f";
+            history.append(title + " Method for finding root of: " + function + "\n");
+            history.append(String.format("Starting with initial guess x₀ = " + formatStr + "\n\n", initialGuess));
+            history.append("Iteration | x_n | f(x_n) | f'(used) | Error | Derivative\n");
+            history.append("---------|-----|--------|----------|-------|-----------\n");
+            int refreshes = 0;
+            for (int i = 0; i < iterates.size() - 1; i++) {
+                double x0 = iterates.get(i);
+                double x1 = iterates.get(i+1);
+                double fx = m.evaluate(expr, x0);
+                double error = Math.abs(x1 - x0);
+                boolean fresh = refreshed.get(i);
+                String iterInfo = String.format("%9d | " + formatStr + " | " + formatStr + " | " + formatStr + " | " + formatStr + " | %s\n",
+                        i+1, x0, fx, derivatives.get(i), error, fresh ? "refreshed" : "reused");
+                history.append(iterInfo);
+                steps.add(new IterationStep(i+1, x0, fx, derivatives.get(i), error, fresh));
+            }
+            for (boolean fresh : refreshed) {
+                if (fresh) {
+                    refreshes++;
+                }
+            }
+            double root = iterates.get(iterates.size()-1);
+            double fxRoot = m.evaluate(expr, root);
+            String highPrecisionFormat = "%." + (digits + 2) + "f";
+            history.append("\n" + outcome(m, "Root found", root, highPrecisionFormat));
+            history.append("\nFunction value at " + (m.getFailureReason() == null ? "root" : "last iterate") + ": f(x) = " + String.format(highPrecisionFormat, fxRoot));
+            history.append("\nIterations required: " + (iterates.size()-1));
+            history.append("\nDerivative refreshes: " + refreshes + " of " + refreshed.size() + " steps");
+            history.append("\nFunction evaluations: " + m.getEvaluationCount());
+            return finish(method, function, m, event, start, root, history, steps, true);
+        } catch (Exception e) {
+            history.append("Error in calculation: " + e.getMessage());
+            return finish(method, function, m, event, start, Double.NaN, history, steps, false);
+        }
+    }
+
     public static Result secant(String function, double x0, double x1, double tolerance, int maxIterations) {
+        return secant(new Methods(maxIterations), function, x0, x1, tolerance);
+    }
+
+    static Result secant(Methods m, String function, double x0, double x1, double tolerance) {
         StringBuilder history = new StringBuilder();
         List<IterationStep> steps = new ArrayList<>();
+        SolveEvent event = SolveEvent.started();
+        long start = System.nanoTime();
         try {
-            Methods m = new Methods(maxIterations);
             m.setTolerance(BigDecimal.valueOf(tolerance));
             Expression expr = new ExpressionBuilder(function).variable("x").build();
             ArrayList<Double> iterates = m.secant(expr, x0, x1, new ArrayList<>());
@@ -69,31 +337,36 @@ public class CalculatorBackend {
                 double prev = iterates.get(i);
                 double curr = iterates.get(i+1);
                 double next = iterates.get(i+2);
-                double fxPrev = expr.setVariable("x", prev).evaluate();
-                double fxCurr = expr.setVariable("x", curr).evaluate();
+                double fxPrev = m.evaluate(expr, prev);
+                double fxCurr = m.evaluate(expr, curr);
                 double error = Math.abs(next - curr);
                 String iterInfo = String.format("%10d | " + formatStr + " | " + formatStr + " | " + formatStr + " | " + formatStr + " | " + formatStr + "\n", i+1, prev, curr, fxPrev, fxCurr, error);
                 history.append(iterInfo);
                 steps.add(new IterationStep(i+1, curr, fxCurr, fxPrev, error));
             }
             double root = iterates.get(iterates.size()-1);
-            double fxRoot = expr.setVariable("x", root).evaluate();
+            double fxRoot = m.evaluate(expr, root);
             String highPrecisionFormat = "%." + (digits + 2) + "f";
-            history.append("\nRoot found: x = " + String.format(highPrecisionFormat, root));
-            history.append("\nFunction value at root: f(x) = " + String.format(highPrecisionFormat, fxRoot));
+            history.append("\n" + outcome(m, "Root found", root, highPrecisionFormat));
+            history.append("\nFunction value at " + (m.getFailureReason() == null ? "root" : "last iterate") + ": f(x) = " + String.format(highPrecisionFormat, fxRoot));
             history.append("\nIterations required: " + (iterates.size()-2));
-            return new Result(root, history.toString(), steps, true);
+            return finish("secant", function, m, event, start, root, history, steps, true);
         } catch (Exception e) {
             history.append("Error in calculation: " + e.getMessage());
-            return new Result(Double.NaN, history.toString(), steps, false);
+            return finish("secant", function, m, event, start, Double.NaN, history, steps, false);
         }
     }
     
     public static Result bisection(String function, double a, double b, double tolerance, int maxIterations) {
+        return bisection(new Methods(maxIterations), function, a, b, tolerance);
+    }
+
+    static Result bisection(Methods m, String function, double a, double b, double tolerance) {
         StringBuilder history = new StringBuilder();
         List<IterationStep> steps = new ArrayList<>();
+        SolveEvent event = SolveEvent.started();
+        long start = System.nanoTime();
         try {
-            Methods m = new Methods(maxIterations);
             m.setTolerance(BigDecimal.valueOf(tolerance));
             Expression expr = new ExpressionBuilder(function).variable("x").build();
             java.util.LinkedList<Pair<Double, Double>> iterates = m.bisection(expr, a, b, new java.util.LinkedList<Pair<Double, Double>>());
@@ -107,32 +380,37 @@ public class CalculatorBackend {
                 double xL = iterates.get(i).getX();
                 double xR = iterates.get(i).getY();
                 double c = (xL + xR) / 2;
-                double fa = expr.setVariable("x", xL).evaluate();
-                double fb = expr.setVariable("x", xR).evaluate();
-                double fc = expr.setVariable("x", c).evaluate();
+                double fa = m.evaluate(expr, xL);
+                double fb = m.evaluate(expr, xR);
+                double fc = m.evaluate(expr, c);
                 double error = Math.abs(xR - xL);
                 String iterInfo = String.format("%10d | " + formatStr + " | " + formatStr + " | " + formatStr + " | " + formatStr + " | " + formatStr + " | " + formatStr + " | " + formatStr + "\n", i+1, xL, xR, c, fa, fb, fc, error);
                 history.append(iterInfo);
                 steps.add(new IterationStep(i+1, c, fc, fb, error, xL, xR));
             }
             double root = (iterates.get(iterates.size()-1).getX() + iterates.get(iterates.size()-1).getY()) / 2;
-            double fxRoot = expr.setVariable("x", root).evaluate();
+            double fxRoot = m.evaluate(expr, root);
             String highPrecisionFormat = "%." + (digits + 2) + "f";
-            history.append("\nRoot found: x = " + String.format(highPrecisionFormat, root));
-            history.append("\nFunction value at root: f(x) = " + String.format(highPrecisionFormat, fxRoot));
+            history.append("\n" + outcome(m, "Root found", root, highPrecisionFormat));
+            history.append("\nFunction value at " + (m.getFailureReason() == null ? "root" : "last iterate") + ": f(x) = " + String.format(highPrecisionFormat, fxRoot));
             history.append("\nIterations required: " + iterates.size());
-            return new Result(root, history.toString(), steps, true);
+            return finish("bisection", function, m, event, start, root, history, steps, true);
         } catch (Exception e) {
             history.append("Error in calculation: " + e.getMessage());
-            return new Result(Double.NaN, history.toString(), steps, false);
+            return finish("bisection", function, m, event, start, Double.NaN, history, steps, false);
         }
     }
     
     public static Result fixedPoint(String function, double initialGuess, double tolerance, int maxIterations) {
+        return fixedPoint(new Methods(maxIterations), function, initialGuess, tolerance);
+    }
+
+    static Result fixedPoint(Methods m, String function, double initialGuess, double tolerance) {
         StringBuilder history = new StringBuilder();
         List<IterationStep> steps = new ArrayList<>();
+        SolveEvent event = SolveEvent.started();
+        long start = System.nanoTime();
         try {
-            Methods m = new Methods(maxIterations);
             m.setTolerance(BigDecimal.valueOf(tolerance));
             Expression expr = new ExpressionBuilder(function).variable("x").build();
             java.util.Queue<Double> iterates = m.fixedPoint(expr, initialGuess, new java.util.LinkedList<>());
@@ -145,13 +423,13 @@ public class CalculatorBackend {
             java.util.Iterator<Double> it = iterates.iterator();
             if (!it.hasNext()) {
                 history.append("No iterations performed.\n");
-                return new Result(Double.NaN, history.toString(), steps, false);
+                return finish("fixed-point", function, m, event, start, Double.NaN, history, steps, false);
             }
             double prev = it.next();
             int i = 1;
             while (it.hasNext()) {
                 double curr = it.next();
-                double gx = expr.setVariable("x", prev).evaluate();
+                double gx = m.evaluate(expr, prev);
                 double error = Math.abs(curr - prev);
                 String iterInfo = String.format("%10d | " + formatStr + " | " + formatStr + " | " + formatStr + "\n", i, prev, gx, error);
                 history.append(iterInfo);
@@ -161,23 +439,28 @@ public class CalculatorBackend {
             }
             double root = prev;
             Expression f = new ExpressionBuilder(function + "-x").variable("x").build();
-            double fValue = f.setVariable("x", root).evaluate();
+            double fValue = m.evaluate(f, root);
             String highPrecisionFormat = "%." + (digits + 2) + "f";
-            history.append("\nFixed point found: x = " + String.format(highPrecisionFormat, root));
+            history.append("\n" + outcome(m, "Fixed point found", root, highPrecisionFormat));
             history.append("\nVerification: g(x) - x = " + String.format(highPrecisionFormat, fValue));
             history.append("\nIterations required: " + (i-1));
-            return new Result(root, history.toString(), steps, true);
+            return finish("fixed-point", function, m, event, start, root, history, steps, true);
         } catch (Exception e) {
             history.append("Error in calculation: " + e.getMessage());
-            return new Result(Double.NaN, history.toString(), steps, false);
+            return finish("fixed-point", function, m, event, start, Double.NaN, history, steps, false);
         }
     }
     
     public static Result falsePosition(String function, double a, double b, double tolerance, int maxIterations) {
+        return falsePosition(new Methods(maxIterations), function, a, b, tolerance);
+    }
+
+    static Result falsePosition(Methods m, String function, double a, double b, double tolerance) {
         StringBuilder history = new StringBuilder();
         List<IterationStep> steps = new ArrayList<>();
+        SolveEvent event = SolveEvent.started();
+        long start = System.nanoTime();
         try {
-            Methods m = new Methods(maxIterations);
             m.setTolerance(BigDecimal.valueOf(tolerance));
             Expression expr = new ExpressionBuilder(function).variable("x").build();
             ArrayList<Pair<Double, Double>> iterates = m.falsePosition(expr, a, b, new ArrayList<Pair<Double, Double>>());
@@ -190,8 +473,8 @@ public class CalculatorBackend {
             for (int i = 0; i < iterates.size(); i++) {
                 double xL = iterates.get(i).getX();
                 double xR = iterates.get(i).getY();
-                double fa = expr.setVariable("x", xL).evaluate();
-                double fb = expr.setVariable("x", xR).evaluate();
+                double fa = m.evaluate(expr, xL);
+                double fb = m.evaluate(expr, xR);
                 
                 double c;
                 double fc;
@@ -203,7 +486,7 @@ public class CalculatorBackend {
                     fc = fa;
                 } else {
                     c = xL + (((xR-xL) * (-1 * fa)) / (fb - fa));
-                    fc = expr.setVariable("x", c).evaluate();
+                    fc = m.evaluate(expr, c);
                 }
                 
                 String iterInfo = String.format("%10d | " + formatStr + " | " + formatStr + " | " + formatStr + " | " + formatStr + " | " + formatStr + " | " + formatStr + " | " + formatStr + "\n", i+1, xL, xR, c, fa, fb, fc, error);
@@ -212,7 +495,7 @@ public class CalculatorBackend {
             }
             if (iterates.size() == 0) {
                 history.append("\nMethod failed to produce valid iterations.\n");
-                return new Result(Double.NaN, history.toString(), steps, false);
+                return finish("false-position", function, m, event, start, Double.NaN, history, steps, false);
             }
             
             Pair<Double, Double> lastPair = iterates.get(iterates.size()-1);
@@ -224,8 +507,8 @@ public class CalculatorBackend {
                 root = lastXL; 
             } else {
           
-                double fL = expr.setVariable("x", lastXL).evaluate();
-                double fR = expr.setVariable("x", lastXR).evaluate();
+                double fL = m.evaluate(expr, lastXL);
+                double fR = m.evaluate(expr, lastXR);
                 
                
                 if (Math.abs(fR - fL) < 1e-10) {
@@ -235,40 +518,588 @@ public class CalculatorBackend {
                 }
             }
             
-            double fxRoot = expr.setVariable("x", root).evaluate();
+            double fxRoot = m.evaluate(expr, root);
             String highPrecisionFormat = "%." + (digits + 2) + "f";
-            history.append("\nRoot found: x = " + String.format(highPrecisionFormat, root));
-            history.append("\nFunction value at root: f(x) = " + String.format(highPrecisionFormat, fxRoot));
+            history.append("\n" + outcome(m, "Root found", root, highPrecisionFormat));
+            history.append("\nFunction value at " + (m.getFailureReason() == null ? "root" : "last iterate") + ": f(x) = " + String.format(highPrecisionFormat, fxRoot));
             history.append("\nIterations required: " + iterates.size());
-            
-            System.out.println("Final root: " + root + ", F(root): " + fxRoot);
-            return new Result(root, history.toString(), steps, true);
+
+            return finish("false-position", function, m, event, start, root, history, steps, true);
         } catch (Exception e) {
             history.append("Error in calculation: " + e.getMessage());
-            return new Result(Double.NaN, history.toString(), steps, false);
+            return finish("false-position", function, m, event, start, Double.NaN, history, steps, false);
+        }
+    }
+
+    // A failed solve reports where it stopped, not a root; finish() then adds the reason last
+    private static String outcome(Methods m, String found, double root, String format) {
+        return (m.getFailureReason() == null ? found : "Last iterate") + ": x = " + String.format(format, root);
+    }
+
+    /**
+     * Builds the Result, noting the estimated convergence order and why the solver stopped
+     * early if it did, and records the solve in {@link SolverMetrics} and, when a recording
+     * is running, as a {@link SolveEvent}. A solve whose {@link Methods} reports a failure
+     * is never marked converged.
+     */
+    private static Result finish(String method, String function, Methods m, SolveEvent event, long start, double root,
+                                 StringBuilder history, List<IterationStep> steps, boolean converged) {
+        String reason = m.getFailureReason();
+        if (!Double.isNaN(m.getConvergenceOrder())) {
+            history.append(String.format("\nEstimated convergence order: %.2f", m.getConvergenceOrder()));
+        }
+        if (reason != null) {
+            history.append("\nStopped: " + reason);
+        }
+        Result result = new Result(root, history.toString(), steps, converged && reason == null, reason);
+        // A race loser stopped by the portfolio is not a failure of its method
+        if (!m.isCancelled()) {
+            SolverMetrics.global().record(method, m, result, System.nanoTime() - start);
+            event.finish(method, function, steps.size(), m.getEvaluationCount(), result.hasConverged());
+        }
+        return result;
+    }
+
+    /**
+     * Streams the iteration trace of {@code result} to {@code file}: CSV when the name ends
+     * in ".csv", otherwise the columnar binary format described in {@link TraceExporter}.
+     */
+    public static void exportTrace(Result result, Path file) throws IOException {
+        if (file.getFileName().toString().toLowerCase().endsWith(".csv")) {
+            TraceExporter.writeCsv(result.getSteps(), file);
+        } else {
+            TraceExporter.writeBinary(result.getSteps(), file);
         }
     }
+
+    /**
+     * Square products at least this wide go through {@link Strassen}; set with
+     * {@code -Dcalculator.strassen.threshold} (find the host's crossover with
+     * StrassenBenchmark).
+     */
+    public static final int STRASSEN_THRESHOLD = Integer.getInteger("calculator.strassen.threshold", 512);
+
     public static double[][] multiplyMatrices(double[][] a, double[][] b) {
-        Methods m = new Methods(100); 
-        return m.matrixMultiplication(a, b);
+        MatrixEvent event = MatrixEvent.started();
+        double[][] result;
+        String operation;
+        if (a.length >= STRASSEN_THRESHOLD && isSquarePair(a, b)) {
+            operation = "strassen";
+            result = Strassen.multiply(a, b);
+        } else {
+            operation = "multiply";
+            result = new Methods(100).matrixMultiplication(a, b);
+        }
+        event.finish(operation, a.length, a[0].length, b[0].length);
+        return result;
+    }
+
+    private static boolean isSquarePair(double[][] a, double[][] b) {
+        int n = a.length;
+        return b.length == n && a[0].length == n && b[0].length == n;
     }
 
     public static double[] solveCramer(double[][] augmentedMatrix) {
+        MatrixEvent event = MatrixEvent.started();
         Methods m = new Methods(100);
-        return m.cramer(augmentedMatrix);
+        double[] result = m.cramer(augmentedMatrix);
+        event.finish("cramer", augmentedMatrix.length, augmentedMatrix.length, 1);
+        return result;
+    }
+
+    /**
+     * Solves the same augmented matrix as {@link #solveCramer} with a float factorization
+     * and iterative refinement, falling back to double LU when refinement stalls.
+     */
+    public static MixedPrecisionSolver.Solution solveMixedPrecision(double[][] augmentedMatrix) {
+        MatrixEvent event = MatrixEvent.started();
+        long start = System.nanoTime();
+        int n = augmentedMatrix.length;
+        double[][] a = coefficients(augmentedMatrix);
+        double[] b = constants(augmentedMatrix);
+        MixedPrecisionSolver.Solution solution = MixedPrecisionSolver.solve(a, b, MixedPrecisionSolver.DEFAULT_MAX_REFINEMENTS);
+        // A double fallback still answers correctly; it gets its own row rather than a failure
+        String method = solution.usedDoubleFallback() ? "mixed-precision-fallback" : "mixed-precision";
+        SolverMetrics.global().record(method, 0, 0, solution.getRefinements(), true, null, System.nanoTime() - start);
+        event.finish("mixed-precision", n, n, 1);
+        return solution;
+    }
+
+    /**
+     * Solves an n x (n+1) augmented matrix with the cheapest algorithm its structure
+     * allows (Thomas, banded LU, Cholesky or general LU); the solution reports which.
+     */
+    public static StructuredSolver.Solution solveStructured(double[][] augmentedMatrix) {
+        MatrixEvent event = MatrixEvent.started();
+        int n = augmentedMatrix.length;
+        StructuredSolver.Solution solution = StructuredSolver.solve(coefficients(augmentedMatrix), constants(augmentedMatrix));
+        String path = solution.getPath().name().toLowerCase();
+        SolverMetrics.global().record("structured-" + path, 0, 0, 0, true, null, solution.getNanos());
+        event.finish("solve-" + path, n, n, 1);
+        return solution;
+    }
+
+    // Square coefficient part of an n x (n+1) augmented matrix
+    private static double[][] coefficients(double[][] augmentedMatrix) {
+        int n = augmentedMatrix.length;
+        double[][] a = new double[n][];
+        for (int i = 0; i < n; i++) {
+            if (augmentedMatrix[i].length != n + 1) {
+                throw new IllegalArgumentException("Augmented matrix must be n x (n+1)");
+            }
+            a[i] = Arrays.copyOf(augmentedMatrix[i], n);
+        }
+        return a;
+    }
+
+    private static double[] constants(double[][] augmentedMatrix) {
+        int n = augmentedMatrix.length;
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = augmentedMatrix[i][n];
+        }
+        return b;
+    }
+
+    /**
+     * Factorizes a square coefficient matrix once so it can be solved against many
+     * right-hand sides; the returned object is safe to share between threads.
+     */
+    public static LUDecomposition factorize(double[][] a) {
+        MatrixEvent event = MatrixEvent.started();
+        LUDecomposition lu = new LUDecomposition(a);
+        event.finish("lu", a.length, a.length, 0);
+        return lu;
+    }
+
+    /**
+     * Factorized coefficient matrix that absorbs single-entry and single-row edits as
+     * Sherman-Morrison updates instead of refactorizing.
+     */
+    public static UpdatableLinearSystem updatableSystem(double[][] coefficients) {
+        MatrixEvent event = MatrixEvent.started();
+        UpdatableLinearSystem system = new UpdatableLinearSystem(coefficients);
+        event.finish("lu", coefficients.length, coefficients.length, 0);
+        return system;
+    }
+
+    public static SparseMatrix multiplySparse(SparseMatrix a, SparseMatrix b) {
+        MatrixEvent event = MatrixEvent.started();
+        SparseMatrix result = a.multiply(b);
+        event.finish("sparse-multiply", a.getRows(), a.getCols(), b.getCols());
+        return result;
+    }
+
+    public static double[] multiplySparse(SparseMatrix a, double[] x) {
+        MatrixEvent event = MatrixEvent.started();
+        double[] result = a.multiply(x);
+        event.finish("sparse-multiply-vector", a.getRows(), a.getCols(), 1);
+        return result;
+    }
+
+    /**
+     * Solves Ax = b for symmetric positive definite sparse A by Conjugate Gradient from x = 0.
+     * The steps carry the residual of every iteration; iterate vectors are not kept, so
+     * their x is empty and change is NaN.
+     */
+    public static LinearResult conjugateGradient(SparseMatrix a, double[] b, double tolerance, int maxIterations) {
+        MatrixEvent event = MatrixEvent.started();
+        long start = System.nanoTime();
+        int n = b.length;
+        Methods m = new Methods(maxIterations);
+        m.setTolerance(BigDecimal.valueOf(tolerance));
+        ArrayList<Double> residuals = new ArrayList<>();
+        double[] solution = m.conjugateGradient(a, b, new double[n], residuals);
+        boolean converged = m.getFailureReason() == null;
+
+        StringBuilder history = new StringBuilder();
+        history.append("Conjugate Gradient for a " + n + "x" + n + " sparse system (" + a.getNonZeros() + " nonzeros)\n");
+        if (!a.isSymmetric(1e-12)) {
+            history.append("Note: the matrix is not symmetric, so Conjugate Gradient may not converge.\n");
+        }
+        history.append("Starting with x = 0\n\nIteration | Residual\n");
+        List<LinearStep> steps = new ArrayList<>();
+        for (int k = 1; k < residuals.size(); k++) {
+            history.append(String.format("%9d | %.3e\n", k, residuals.get(k)));
+            steps.add(new LinearStep(k, new double[0], residuals.get(k), Double.NaN));
+        }
+        history.append("\n");
+        if (converged) {
+            int digits = Math.max(1, (int) Math.ceil(-Math.log10(tolerance)));
+            for (int i = 0; i < Math.min(n, 8); i++) {
+                history.append(String.format("x%d = %." + digits + "f\n", i + 1, solution[i]));
+            }
+            if (n > 8) {
+                history.append("... (" + (n - 8) + " more)\n");
+            }
+            history.append("Iterations required: " + steps.size());
+        } else {
+            history.append("Stopped: " + m.getFailureReason() + " after " + steps.size() + " iterations");
+        }
+
+        SolverMetrics.global().record("conjugate-gradient", 0, 0, steps.size(), converged, m.getFailureReason(),
+                System.nanoTime() - start);
+        event.finish("conjugate-gradient", n, n, 1);
+        return new LinearResult(solution, history.toString(), steps, converged);
+    }
+
+    /** Systems with at least this many Jacobian entries evaluate its columns in parallel. */
+    public static final int PARALLEL_JACOBIAN_THRESHOLD = 16;
+
+    /**
+     * Solves a system of nonlinear equations such as {"x^2 + y^2 = 4", "x*y = 1"} over
+     * {@code variables} by Newton's method with a finite-difference Jacobian.
+     * The steps hold the iterates, ||F(x)||inf as residual and the largest change.
+     */
+    public static LinearResult newtonSystem(String[] equations, String[] variables, double[] guess,
+                                            double tolerance, int maxIterations) {
+        return systemSolve("newton-system", equations, variables, guess, tolerance, maxIterations);
+    }
+
+    /**
+     * Same as {@link #newtonSystem} but with Broyden's rank-1 Jacobian updates, which
+     * need one evaluation of the system per step instead of n + 1.
+     */
+    public static LinearResult broyden(String[] equations, String[] variables, double[] guess,
+                                       double tolerance, int maxIterations) {
+        return systemSolve("broyden", equations, variables, guess, tolerance, maxIterations);
+    }
+
+    private static LinearResult systemSolve(String method, String[] equations, String[] variables, double[] guess,
+                                            double tolerance, int maxIterations) {
+        SolveEvent event = SolveEvent.started();
+        long start = System.nanoTime();
+        int n = variables.length;
+        Expression[] f = new Expression[equations.length];
+        for (int i = 0; i < equations.length; i++) {
+            f[i] = Methods.parseSystemEquation(equations[i], variables);
+        }
+        Methods m = new Methods(maxIterations);
+        m.setTolerance(BigDecimal.valueOf(tolerance));
+        ArrayList<double[]> iterates = new ArrayList<>();
+        ArrayList<Double> residuals = new ArrayList<>();
+        boolean parallel = n * equations.length >= PARALLEL_JACOBIAN_THRESHOLD;
+        String title;
+        if (method.equals("broyden")) {
+            title = "Broyden's Method";
+            m.broyden(f, variables, guess, parallel, iterates, residuals);
+        } else {
+            title = "Newton's Method";
+            m.newtonSystem(f, variables, guess, parallel, iterates, residuals);
+        }
+
+        int digits = Math.max(1, (int) Math.ceil(-Math.log10(tolerance)));
+        String formatStr = "%." + digits + "f";
+        boolean showVector = n <= 8;
+        StringBuilder history = new StringBuilder();
+        history.append(title + " for a system of " + equations.length + " equations:\n");
+        for (String equation : equations) {
+            history.append("  " + equation + "\n");
+        }
+        history.append("Starting with");
+        for (int i = 0; i < n; i++) {
+            history.append(String.format(" %s = " + formatStr, variables[i], guess[i]));
+        }
+        history.append("\n\nIteration | ");
+        if (showVector) {
+            for (String variable : variables) {
+                history.append(variable + " | ");
+            }
+        }
+        history.append("||F(x)|| | Change\n");
+        List<LinearStep> steps = new ArrayList<>();
+        for (int k = 1; k < iterates.size(); k++) {
+            double[] x = iterates.get(k);
+            double[] prev = iterates.get(k - 1);
+            double change = 0;
+            for (int i = 0; i < n; i++) {
+                change = Math.max(change, Math.abs(x[i] - prev[i]));
+            }
+            history.append(String.format("%9d | ", k));
+            if (showVector) {
+                for (int i = 0; i < n; i++) {
+                    history.append(String.format(formatStr + " | ", x[i]));
+                }
+            }
+            history.append(String.format("%.3e | %.3e\n", residuals.get(k), change));
+            steps.add(new LinearStep(k, x, residuals.get(k), change));
+        }
+        double[] solution = iterates.get(iterates.size() - 1);
+        boolean converged = m.getFailureReason() == null;
+        history.append("\n");
+        if (converged) {
+            for (int i = 0; i < n; i++) {
+                history.append(String.format("%s = " + formatStr + "\n", variables[i], solution[i]));
+            }
+            history.append("Iterations required: " + steps.size());
+        } else {
+            history.append("Stopped: " + m.getFailureReason() + " after " + steps.size() + " iterations");
+        }
+        history.append("\nEquation evaluations: " + m.getEvaluationCount());
+
+        SolverMetrics.global().record(method, m.getEvaluationCount(), m.getEvaluationRequests(), steps.size(), converged,
+                m.getFailureReason(), System.nanoTime() - start);
+        event.finish(method, String.join("; ", equations), steps.size(), m.getEvaluationCount(), converged);
+        return new LinearResult(solution, history.toString(), steps, converged);
+    }
+
+    /**
+     * Solves {@code function} = 0 in x for {@code points} evenly spaced values of
+     * {@code parameter} from {@code from} to {@code to}, warm-starting each solve from the
+     * neighbouring roots. See {@link ParameterSweep}. For Fixed-Point the function is
+     * g(x; p) as in {@link #fixedPoint}.
+     */
+    public static SweepResult sweep(String method, String function, String parameter, double from, double to,
+                                    int points, double guess1, double guess2, double tolerance, int maxIterations) {
+        SolveEvent event = SolveEvent.started();
+        long start = System.nanoTime();
+        SweepResult result = new ParameterSweep(method, function, parameter, guess1, guess2, tolerance, maxIterations,
+                true).run(from, to, points);
+        boolean converged = result.getFailures() == 0;
+        SolverMetrics.global().record("sweep-" + result.getMethod(), result.getTotalEvaluations(),
+                result.getTotalEvaluations(), (int) Math.min(Integer.MAX_VALUE, result.getTotalIterations()), converged,
+                converged ? null : result.getFailures() + " of " + points + " points failed", System.nanoTime() - start);
+        event.finish("sweep-" + result.getMethod(), function, (int) Math.min(Integer.MAX_VALUE, result.getTotalIterations()),
+                result.getTotalEvaluations(), converged);
+        return result;
+    }
+
+    /**
+     * Dominant eigenvalue and eigenvector by power iteration from a fixed pseudo-random
+     * start. Each step's x is the Rayleigh quotient, fx the residual ||Ax - λx||₂ and
+     * error the change in λ.
+     */
+    public static EigenResult powerIteration(double[][] a, double tolerance, int maxIterations) {
+        return vectorIteration("power-iteration", a, Double.NaN, tolerance, maxIterations);
+    }
+
+    /**
+     * Eigenpair nearest {@code shift} by Rayleigh quotient inverse iteration; pass NaN to
+     * start from the Rayleigh quotient of the starting vector. Steps as in
+     * {@link #powerIteration}.
+     */
+    public static EigenResult inverseIteration(double[][] a, double shift, double tolerance, int maxIterations) {
+        return vectorIteration("inverse-iteration", a, shift, tolerance, maxIterations);
+    }
+
+    private static EigenResult vectorIteration(String method, double[][] a, double shift, double tolerance,
+                                               int maxIterations) {
+        MatrixEvent event = MatrixEvent.started();
+        long start = System.nanoTime();
+        int n = a.length;
+        Methods m = new Methods(maxIterations);
+        m.setTolerance(BigDecimal.valueOf(tolerance));
+        double[] x0 = new double[n];
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < n; i++) {
+            x0[i] = 0.5 + random.nextDouble();
+        }
+        ArrayList<Double> lambdas = new ArrayList<>();
+        ArrayList<Double> residuals = new ArrayList<>();
+        boolean power = method.equals("power-iteration");
+        double[] vector = power ? m.powerIteration(a, x0, lambdas, residuals)
+                : m.rayleighQuotientIteration(a, x0, shift, lambdas, residuals);
+        boolean converged = m.getFailureReason() == null;
+
+        int digits = Math.max(1, (int) Math.ceil(-Math.log10(tolerance)));
+        String formatStr = "%." + digits + "f";
+        StringBuilder history = new StringBuilder();
+        if (power) {
+            history.append("Power Iteration for the dominant eigenvalue of a " + n + "x" + n + " matrix\n");
+        } else {
+            history.append("Rayleigh Quotient Iteration on a " + n + "x" + n + " matrix, starting shift "
+                    + (Double.isNaN(shift) ? "xᵀAx" : String.valueOf(shift)) + "\n");
+        }
+        history.append("\nIteration | λ_k | Residual | Change\n");
+        history.append("---------|-----|----------|-------\n");
+        List<IterationStep> steps = new ArrayList<>();
+        for (int k = 0; k < lambdas.size(); k++) {
+            double lambda = lambdas.get(k);
+            double change = k == 0 ? Double.NaN : Math.abs(lambda - lambdas.get(k - 1));
+            history.append(String.format("%9d | " + formatStr + " | %.3e | %s\n", k + 1, lambda, residuals.get(k),
+                    k == 0 ? "-" : String.format("%.3e", change)));
+            steps.add(new IterationStep(k + 1, lambda, residuals.get(k), Double.NaN, change));
+        }
+        double lambda = lambdas.isEmpty() ? Double.NaN : lambdas.get(lambdas.size() - 1);
+        history.append("\nEigenvalue: λ = " + String.format("%." + (digits + 2) + "f", lambda));
+        history.append("\nEigenvector:");
+        for (int i = 0; i < Math.min(n, 8); i++) {
+            history.append(String.format(" " + formatStr, vector[i]));
+        }
+        if (n > 8) {
+            history.append(" ... (" + (n - 8) + " more)");
+        }
+        history.append("\nIterations required: " + lambdas.size());
+        if (!converged) {
+            history.append("\nStopped: " + m.getFailureReason());
+        }
+        SolverMetrics.global().record(method, 0, 0, lambdas.size(), converged, m.getFailureReason(),
+                System.nanoTime() - start);
+        event.finish(method, n, n, 1);
+        return new EigenResult(new double[] {lambda}, new double[1], vector, history.toString(), steps, converged);
+    }
+
+    /**
+     * All eigenvalues by Hessenberg reduction and Francis double-shift QR. Each step is one
+     * QR sweep: x is the current estimate of the eigenvalue being deflated and fx / error
+     * the subdiagonal entry that must vanish before it splits off.
+     */
+    public static EigenResult qrEigenvalues(double[][] a) {
+        MatrixEvent event = MatrixEvent.started();
+        long start = System.nanoTime();
+        int n = a.length;
+        Methods m = new Methods(30);
+        double[] re = new double[n];
+        double[] im = new double[n];
+        ArrayList<Double> estimates = new ArrayList<>();
+        ArrayList<Double> subdiagonals = new ArrayList<>();
+        boolean converged = m.qrEigenvalues(a, re, im, estimates, subdiagonals);
+
+        StringBuilder history = new StringBuilder();
+        history.append("Shifted QR (Hessenberg, Francis double shift) on a " + n + "x" + n + " matrix\n");
+        history.append("\nSweep | Estimate | |h(k,k-1)|\n");
+        history.append("------|----------|-----------\n");
+        List<IterationStep> steps = new ArrayList<>();
+        for (int k = 0; k < estimates.size(); k++) {
+            history.append(String.format("%5d | %.10f | %.3e\n", k + 1, estimates.get(k), subdiagonals.get(k)));
+            steps.add(new IterationStep(k + 1, estimates.get(k), subdiagonals.get(k), Double.NaN, subdiagonals.get(k)));
+        }
+        if (converged) {
+            history.append("\nEigenvalues:\n");
+            for (int i = 0; i < n; i++) {
+                if (im[i] == 0) {
+                    history.append(String.format("λ%d = %.10f\n", i + 1, re[i]));
+                } else {
+                    history.append(String.format("λ%d = %.10f %s %.10fi\n", i + 1, re[i], im[i] < 0 ? "-" : "+", Math.abs(im[i])));
+                }
+            }
+            history.append("QR sweeps required: " + steps.size());
+        } else {
+            history.append("\nStopped: " + m.getFailureReason());
+        }
+        SolverMetrics.global().record("qr-eigenvalues", 0, 0, steps.size(), converged, m.getFailureReason(),
+                System.nanoTime() - start);
+        event.finish("qr-eigenvalues", n, n, 0);
+        return new EigenResult(re, im, null, history.toString(), steps, converged);
+    }
+
+    /** Systems at least this large run the Jacobi sweep in parallel. */
+    public static final int PARALLEL_JACOBI_THRESHOLD = 256;
+
+    public static LinearResult jacobi(double[][] augmentedMatrix, double tolerance, int maxIterations) {
+        return iterativeSolve("jacobi", augmentedMatrix, 1.0, tolerance, maxIterations);
+    }
+
+    public static LinearResult gaussSeidel(double[][] augmentedMatrix, double tolerance, int maxIterations) {
+        return iterativeSolve("gauss-seidel", augmentedMatrix, 1.0, tolerance, maxIterations);
+    }
+
+    public static LinearResult sor(double[][] augmentedMatrix, double omega, double tolerance, int maxIterations) {
+        return iterativeSolve("sor", augmentedMatrix, omega, tolerance, maxIterations);
+    }
+
+    /**
+     * Runs an iterative linear solver on an n x (n+1) augmented matrix from x = 0 and builds
+     * the iteration table. Stops on the relative residual ||b - Ax||inf / max(||b||inf, 1).
+     */
+    private static LinearResult iterativeSolve(String method, double[][] augmentedMatrix, double omega,
+                                               double tolerance, int maxIterations) {
+        MatrixEvent event = MatrixEvent.started();
+        long start = System.nanoTime();
+        int n = augmentedMatrix.length;
+        double[][] a = coefficients(augmentedMatrix);
+        double[] b = constants(augmentedMatrix);
+        Methods m = new Methods(maxIterations);
+        m.setTolerance(BigDecimal.valueOf(tolerance));
+        ArrayList<double[]> iterates = new ArrayList<>();
+        ArrayList<Double> residuals = new ArrayList<>();
+        String title;
+        switch (method) {
+            case "jacobi":
+                title = "Jacobi";
+                m.jacobi(a, b, new double[n], n >= PARALLEL_JACOBI_THRESHOLD, iterates, residuals);
+                break;
+            case "gauss-seidel":
+                title = "Gauss-Seidel";
+                m.gaussSeidel(a, b, new double[n], iterates, residuals);
+                break;
+            default:
+                title = "SOR (omega = " + omega + ")";
+                m.sor(a, b, new double[n], omega, iterates, residuals);
+                break;
+        }
+
+        int digits = Math.max(1, (int) Math.ceil(-Math.log10(tolerance)));
+        String formatStr = "%." + digits + "f";
+        boolean showVector = n <= 8;
+        StringBuilder history = new StringBuilder();
+        history.append(title + " iteration for a " + n + "x" + n + " system\n");
+        if (!Methods.isDiagonallyDominant(a)) {
+            history.append("Note: the matrix is not diagonally dominant, so convergence is not guaranteed.\n");
+        }
+        history.append("Starting with x = 0\n\n");
+        history.append("Iteration | ");
+        if (showVector) {
+            for (int i = 0; i < n; i++) {
+                history.append("x" + (i + 1) + " | ");
+            }
+        }
+        history.append("Residual | Change\n");
+        List<LinearStep> steps = new ArrayList<>();
+        for (int k = 1; k < iterates.size(); k++) {
+            double[] x = iterates.get(k);
+            double[] prev = iterates.get(k - 1);
+            double change = 0;
+            for (int i = 0; i < n; i++) {
+                change = Math.max(change, Math.abs(x[i] - prev[i]));
+            }
+            history.append(String.format("%9d | ", k));
+            if (showVector) {
+                for (int i = 0; i < n; i++) {
+                    history.append(String.format(formatStr + " | ", x[i]));
+                }
+            }
+            history.append(String.format("%.3e | %.3e\n", residuals.get(k), change));
+            steps.add(new LinearStep(k, x, residuals.get(k), change));
+        }
+        double[] solution = iterates.get(iterates.size() - 1);
+        boolean converged = m.getFailureReason() == null;
+        history.append("\n");
+        if (converged) {
+            for (int i = 0; i < n; i++) {
+                history.append(String.format("x%d = " + formatStr + "\n", i + 1, solution[i]));
+            }
+            history.append("Iterations required: " + steps.size());
+        } else {
+            history.append("Stopped: " + m.getFailureReason() + " after " + steps.size() + " iterations");
+        }
+
+        SolverMetrics.global().record(method, 0, 0, steps.size(), converged, m.getFailureReason(), System.nanoTime() - start);
+        event.finish(method, n, n, 1);
+        return new LinearResult(solution, history.toString(), steps, converged);
     }
     
-    public static class Result {
+    /**
+     * Outcome of one solve. Immutable (the step list is an unmodifiable copy and the steps
+     * themselves are immutable), so cached instances can be shared across threads.
+     */
+    public static final class Result {
         private final double root;
         private final String history;
         private final List<IterationStep> steps;
         private final boolean converged;
+        private final String failureReason;
         
         public Result(double root, String history, List<IterationStep> steps, boolean converged) {
+            this(root, history, steps, converged, null);
+        }
+
+        public Result(double root, String history, List<IterationStep> steps, boolean converged, String failureReason) {
             this.root = root;
             this.history = history;
-            this.steps = steps;
+            this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
             this.converged = converged;
+            this.failureReason = failureReason;
         }
         
         public double getRoot() {
@@ -286,9 +1117,249 @@ public class CalculatorBackend {
         public boolean hasConverged() {
             return converged;
         }
+
+        /** Why the solver stopped without converging, or null. */
+        public String getFailureReason() {
+            return failureReason;
+        }
+    }
+
+    /**
+     * Outcome of an iterative linear solve. Immutable like {@link Result}.
+     */
+    public static final class LinearResult {
+        private final double[] solution;
+        private final String history;
+        private final List<LinearStep> steps;
+        private final boolean converged;
+
+        public LinearResult(double[] solution, String history, List<LinearStep> steps, boolean converged) {
+            this.solution = solution.clone();
+            this.history = history;
+            this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+            this.converged = converged;
+        }
+
+        public double[] getSolution() {
+            return solution.clone();
+        }
+
+        public String getHistory() {
+            return history;
+        }
+
+        public List<LinearStep> getSteps() {
+            return steps;
+        }
+
+        public boolean hasConverged() {
+            return converged;
+        }
+    }
+
+    public static final class EigenResult {
+        private final double[] real;
+        private final double[] imaginary;
+        private final double[] vector;
+        private final String history;
+        private final List<IterationStep> steps;
+        private final boolean converged;
+
+        public EigenResult(double[] real, double[] imaginary, double[] vector, String history,
+                           List<IterationStep> steps, boolean converged) {
+            this.real = real.clone();
+            this.imaginary = imaginary.clone();
+            this.vector = vector == null ? null : vector.clone();
+            this.history = history;
+            this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+            this.converged = converged;
+        }
+
+        /** The eigenvalue found by power or inverse iteration; the first one for QR. */
+        public double getEigenvalue() {
+            return real[0];
+        }
+
+        public double[] getRealParts() {
+            return real.clone();
+        }
+
+        public double[] getImaginaryParts() {
+            return imaginary.clone();
+        }
+
+        /** Unit eigenvector for power and inverse iteration, null for QR. */
+        public double[] getEigenvector() {
+            return vector == null ? null : vector.clone();
+        }
+
+        public String getHistory() {
+            return history;
+        }
+
+        public List<IterationStep> getSteps() {
+            return steps;
+        }
+
+        public boolean hasConverged() {
+            return converged;
+        }
+    }
+
+    /**
+     * Roots of a parameter sweep, one entry per grid point. A failed point has converged
+     * false and, when the solver threw, a NaN root.
+     */
+    public static final class SweepResult {
+        /** Rows shown by {@link #getHistory()}; longer sweeps are sampled evenly. */
+        public static final int HISTORY_ROWS = 200;
+
+        private final String method;
+        private final String function;
+        private final String parameter;
+        private final double[] parameters;
+        private final double[] roots;
+        private final int[] iterations;
+        private final long[] evaluations;
+        private final boolean[] converged;
+        private final int chunks;
+        private final boolean warmStart;
+        private final long totalIterations;
+        private final long totalEvaluations;
+        private final int failures;
+
+        SweepResult(String method, String function, String parameter, double[] parameters, double[] roots,
+                    int[] iterations, long[] evaluations, boolean[] converged, int chunks, boolean warmStart) {
+            this.method = method;
+            this.function = function;
+            this.parameter = parameter;
+            this.parameters = parameters;
+            this.roots = roots;
+            this.iterations = iterations;
+            this.evaluations = evaluations;
+            this.converged = converged;
+            this.chunks = chunks;
+            this.warmStart = warmStart;
+            long its = 0;
+            long evals = 0;
+            int failed = 0;
+            for (int i = 0; i < roots.length; i++) {
+                its += iterations[i];
+                evals += evaluations[i];
+                if (!converged[i]) {
+                    failed++;
+                }
+            }
+            totalIterations = its;
+            totalEvaluations = evals;
+            failures = failed;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public int size() {
+            return roots.length;
+        }
+
+        public double[] getParameters() {
+            return parameters.clone();
+        }
+
+        public double[] getRoots() {
+            return roots.clone();
+        }
+
+        public int[] getIterations() {
+            return iterations.clone();
+        }
+
+        public boolean[] getConverged() {
+            return converged.clone();
+        }
+
+        public long getTotalIterations() {
+            return totalIterations;
+        }
+
+        public long getTotalEvaluations() {
+            return totalEvaluations;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        /** Number of contiguous chunks the grid was split into; each starts cold. */
+        public int getChunks() {
+            return chunks;
+        }
+
+        public boolean isWarmStart() {
+            return warmStart;
+        }
+
+        public String getHistory() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Parameter sweep of " + function + " = 0 over " + parameter + " (" + method + ")\n");
+            sb.append(String.format("%d points in %d chunks, %s start\n\n", roots.length, chunks,
+                    warmStart ? "warm" : "cold"));
+            sb.append(String.format("%10s | %-22s | %10s | %s\n", parameter, "Root", "Iterations", "Status"));
+            int stride = Math.max(1, (roots.length + HISTORY_ROWS - 1) / HISTORY_ROWS);
+            for (int i = 0; i < roots.length; i += stride) {
+                appendRow(sb, i);
+            }
+            if ((roots.length - 1) % stride != 0) {
+                appendRow(sb, roots.length - 1);
+            }
+            if (stride > 1) {
+                sb.append(String.format("(one point in %d shown)\n", stride));
+            }
+            sb.append("\nTotal iterations: " + totalIterations);
+            sb.append(String.format("\nMean iterations per point: %.2f", totalIterations / (double) roots.length));
+            sb.append("\nFunction evaluations: " + totalEvaluations);
+            sb.append("\nFailed points: " + failures);
+            return sb.toString();
+        }
+
+        private void appendRow(StringBuilder sb, int i) {
+            sb.append(String.format("%10.6g | %-22.15g | %10d | %s\n", parameters[i], roots[i], iterations[i],
+                    converged[i] ? "ok" : "failed"));
+        }
+    }
+
+    public static final class LinearStep {
+        private final int iteration;
+        private final double[] x;
+        private final double residual;
+        private final double change;
+
+        public LinearStep(int iteration, double[] x, double residual, double change) {
+            this.iteration = iteration;
+            this.x = x.clone();
+            this.residual = residual;
+            this.change = change;
+        }
+
+        public int getIteration() {
+            return iteration;
+        }
+
+        public double[] getX() {
+            return x.clone();
+        }
+
+        public double getResidual() {
+            return residual;
+        }
+
+        public double getChange() {
+            return change;
+        }
     }
     
-    public static class IterationStep {
+    public static final class IterationStep {
         private final int iteration;
         private final double x;
         private final double fx;
@@ -296,12 +1367,22 @@ public class CalculatorBackend {
         private final double error;
         private final Double a;
         private final Double b;
+        private final Boolean derivativeRefreshed;
         
         public IterationStep(int iteration, double x, double fx, double fpx, double error) {
-            this(iteration, x, fx, fpx, error, null, null);
+            this(iteration, x, fx, fpx, error, null, null, null);
         }
         
         public IterationStep(int iteration, double x, double fx, double fpx, double error, Double a, Double b) {
+            this(iteration, x, fx, fpx, error, a, b, null);
+        }
+
+        public IterationStep(int iteration, double x, double fx, double fpx, double error, boolean derivativeRefreshed) {
+            this(iteration, x, fx, fpx, error, null, null, derivativeRefreshed);
+        }
+
+        public IterationStep(int iteration, double x, double fx, double fpx, double error, Double a, Double b,
+                             Boolean derivativeRefreshed) {
             this.iteration = iteration;
             this.x = x;
             this.fx = fx;
@@ -309,6 +1390,7 @@ public class CalculatorBackend {
             this.error = error;
             this.a = a;
             this.b = b;
+            this.derivativeRefreshed = derivativeRefreshed;
         }
         
         public int getIteration() {
@@ -338,6 +1420,14 @@ public class CalculatorBackend {
         public Double getB() {
             return b;
         }
+
+        /**
+         * For methods that reuse f'(x) across steps (chord, Shamanskii): whether fpx was
+         * computed at this step. Null for methods that always or never use a derivative.
+         */
+        public Boolean getDerivativeRefreshed() {
+            return derivativeRefreshed;
+        }
     }
     
 }
\ No newline at end of file
@@ -0,0 +1,230 @@
+package src;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Headless command-line solver. Reads one job per line (CSV or JSONL) from a file or
+ * stdin, solves the jobs in parallel and streams one result line per job to stdout
+ * in input order. Never touches AWT/Swing, so it runs on machines without a display.
+ *
+ * <pre>
+ * java -cp "lib/*:bin" src.CalculatorCli [--format csv|jsonl] [--threads N] [--metrics] [file|-]
+ * </pre>
+ *
+ * CSV rows are method,function,guess1,guess2,tolerance,maxIterations; a header row
+ * starting with "method" is skipped. JSONL rows are objects with the same keys.
+ * With {@code -Dcalculator.store=results.bin} solved results are kept in a
+ * {@link ResultStore} and reused by later runs.
+ * {@code --metrics} prints the {@link SolverMetrics} and result cache counters to stderr when done.
+ *
+ * For the fastest cold start use the core jar ({@code java -jar core/target/core-*.jar}),
+ * optionally with {@code -XX:TieredStopAtLevel=1} and an AppCDS archive recorded once via
+ * {@code -XX:ArchiveClassesAtExit=core.jsa} and reused with {@code -XX:SharedArchiveFile=core.jsa}.
+ */
+public class CalculatorCli {
+    private enum Format { CSV, JSONL }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        Format format = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String input = "-";
+        boolean metrics = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--format":
+                    format = Format.valueOf(args[++i].toUpperCase());
+                    break;
+                case "--threads":
+                    threads = Math.max(1, Integer.parseInt(args[++i]));
+                    break;
+                case "--metrics":
+                    metrics = true;
+                    break;
+                case "-h":
+                case "--help":
+                    printUsage();
+                    return;
+                default:
+                    input = args[i];
+            }
+        }
+        if (format == null) {
+            format = input.toLowerCase().endsWith(".csv") ? Format.CSV
+                   : input.toLowerCase().endsWith(".jsonl") || input.toLowerCase().endsWith(".json") ? Format.JSONL
+                   : null;
+        }
+
+        InputStream in = input.equals("-") ? System.in : new FileInputStream(input);
+        ResultStore store = CalculatorBackend.openConfiguredStore();
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        ExecutorService pool = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "solver");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            run(reader, out, pool, format, threads * 4);
+        } finally {
+            pool.shutdownNow();
+            out.flush();
+            if (store != null) {
+                store.close();
+            }
+        }
+        if (metrics) {
+            System.err.print(SolverMetrics.global().toText());
+            System.err.print(CalculatorBackend.getResultCache().toText());
+            if (store != null) {
+                System.err.print(store.toText());
+            }
+        }
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: CalculatorCli [--format csv|jsonl] [--threads N] [--metrics] [file|-]");
+        System.out.println("  CSV:   method,function,guess1,guess2,tolerance,maxIterations");
+        System.out.println("  JSONL: {\"method\":\"newton\",\"function\":\"x^2-4\",\"guess1\":3,\"tolerance\":1e-6}");
+    }
+
+    /**
+     * Submits jobs as they are read and writes results as soon as the oldest outstanding
+     * job finishes. At most {@code window} jobs are in flight, so memory stays bounded
+     * no matter how long the input is.
+     */
+    private static void run(BufferedReader reader, Writer out, ExecutorService pool, Format format, int window)
+            throws IOException, InterruptedException {
+        Deque<Future<String>> pending = new ArrayDeque<>();
+        String line;
+        long lineNo = 0;
+        boolean first = true;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            if (format == null) {
+                format = trimmed.startsWith("{") ? Format.JSONL : Format.CSV;
+            }
+            if (first && format == Format.CSV) {
+                out.write("line,method,function,root,converged,iterations,error\n");
+                if (trimmed.toLowerCase().startsWith("method")) {
+                    first = false;
+                    continue;
+                }
+            }
+            first = false;
+            pending.add(pool.submit(new LineTask(trimmed, lineNo, format)));
+            while (pending.size() >= window || (!pending.isEmpty() && pending.peek().isDone())) {
+                writeNext(pending, out);
+            }
+        }
+        while (!pending.isEmpty()) {
+            writeNext(pending, out);
+        }
+    }
+
+    // A named task instead of a lambda keeps LambdaMetafactory off the cold-start path
+    private static final class LineTask implements Callable<String> {
+        private final String line;
+        private final long lineNo;
+        private final Format format;
+
+        LineTask(String line, long lineNo, Format format) {
+            this.line = line;
+            this.lineNo = lineNo;
+            this.format = format;
+        }
+
+        @Override
+        public String call() {
+            return solveLine(line, lineNo, format);
+        }
+    }
+
+    private static void writeNext(Deque<Future<String>> pending, Writer out) throws IOException, InterruptedException {
+        try {
+            out.write(pending.poll().get());
+        } catch (ExecutionException e) {
+            out.write("# " + e.getCause() + "\n");
+        }
+        out.flush();
+    }
+
+    private static String solveLine(String line, long lineNo, Format format) {
+        SolveJob job = null;
+        try {
+            job = format == Format.JSONL ? SolveJob.fromJson(line) : SolveJob.fromCsv(line);
+            CalculatorBackend.Result result = job.run();
+            return formatResult(lineNo, job, result, result.hasConverged() ? null : failureReason(result), format);
+        } catch (RuntimeException e) {
+            return formatResult(lineNo, job, null, e.getMessage(), format);
+        }
+    }
+
+    private static String failureReason(CalculatorBackend.Result result) {
+        if (result.getFailureReason() != null) {
+            return result.getFailureReason();
+        }
+        String[] lines = result.getHistory().trim().split("\n");
+        return lines.length == 0 ? "Did not converge" : lines[lines.length - 1].trim();
+    }
+
+    private static String formatResult(long lineNo, SolveJob job, CalculatorBackend.Result result, String error, Format format) {
+        double root = result == null ? Double.NaN : result.getRoot();
+        boolean converged = result != null && result.hasConverged();
+        int iterations = result == null ? 0 : result.getSteps().size();
+        StringBuilder sb = new StringBuilder();
+        if (format == Format.JSONL) {
+            sb.append("{\"line\":").append(lineNo);
+            if (job != null) {
+                sb.append(",\"method\":");
+                Json.quote(sb, job.getMethod());
+                sb.append(",\"function\":");
+                Json.quote(sb, job.getFunction());
+            }
+            sb.append(",\"root\":");
+            Json.number(sb, root);
+            sb.append(",\"converged\":").append(converged);
+            sb.append(",\"iterations\":").append(iterations);
+            if (error != null) {
+                sb.append(",\"error\":");
+                Json.quote(sb, error);
+            }
+            sb.append("}\n");
+        } else {
+            sb.append(lineNo).append(',');
+            if (job != null) {
+                sb.append(job.getMethod()).append(',').append(SolveJob.csvField(job.getFunction()));
+            } else {
+                sb.append(',');
+            }
+            sb.append(',').append(Double.isNaN(root) ? "" : Double.toString(root));
+            sb.append(',').append(converged);
+            sb.append(',').append(iterations);
+            sb.append(',').append(error == null ? "" : SolveJob.csvField(error));
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
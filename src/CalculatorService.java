@@ -0,0 +1,302 @@
+package src;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Local HTTP front end for {@link CalculatorBackend}, bound to the loopback interface only.
+ *
+ * <pre>
+ * POST /solve            {"method":"newton","function":"x^2-4","guess1":3,"tolerance":1e-6}
+ * POST /solve/batch      [job, job, ...]  or  {"jobs":[...]}
+ * POST /matrix/multiply  {"a":[[...]],"b":[[...]]}
+ * POST /linear/solve     {"matrix":[[a11,...,a1n,b1],...]}
+ * GET  /metrics          plain-text counters, including {@link SolverMetrics}, {@link PortfolioSolver} wins
+ *                        and the result cache
+ * </pre>
+ *
+ * Concurrent identical requests are coalesced: the first one computes, the rest wait on
+ * the same future. Each request runs on its own virtual thread when the JVM supports
+ * them, otherwise on a cached thread pool. Start with {@code -Dcalculator.store=results.bin}
+ * to persist results in a {@link ResultStore} so restarts begin warm.
+ */
+public class CalculatorService {
+    public static final int DEFAULT_PORT = 8787;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder solves = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+
+    public CalculatorService(int port) throws IOException {
+        executor = newRequestExecutor();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/solve", post(this::handleSolve));
+        server.createContext("/solve/batch", post(this::handleBatch));
+        server.createContext("/matrix/multiply", post(this::handleMultiply));
+        server.createContext("/linear/solve", post(this::handleLinearSolve));
+        server.createContext("/metrics", this::handleMetrics);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        ResultStore store = CalculatorBackend.openConfiguredStore();
+        if (store != null) {
+            System.err.println("Result store: " + System.getProperty("calculator.store") + " (" + store.size() + " results)");
+        }
+        CalculatorService service = new CalculatorService(port);
+        service.start();
+        System.err.println("Calculator service listening on http://127.0.0.1:" + service.getPort());
+    }
+
+    /**
+     * Virtual-thread-per-task executor when available (JDK 21+), looked up reflectively so
+     * the class still compiles and runs on older JDKs.
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "calculator-service");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    private interface BodyHandler {
+        String handle(String body) throws Exception;
+    }
+
+    private HttpHandler post(BodyHandler handler) {
+        return exchange -> {
+            requests.increment();
+            long start = System.nanoTime();
+            try {
+                if (!exchange.getRequestMethod().equalsIgnoreCase("POST")) {
+                    send(exchange, 405, "{\"error\":\"POST required\"}");
+                    return;
+                }
+                String response = handler.handle(readBody(exchange));
+                send(exchange, 200, response);
+            } catch (IllegalArgumentException e) {
+                failures.increment();
+                send(exchange, 400, errorJson(e.getMessage()));
+            } catch (Exception | Error e) {
+                // Errors too (e.g. StackOverflowError), or the client never gets a response
+                failures.increment();
+                send(exchange, 500, errorJson(e.toString()));
+            } finally {
+                busyNanos.add(System.nanoTime() - start);
+            }
+        };
+    }
+
+    private String handleSolve(String body) throws Exception {
+        SolveJob job = SolveJob.fromJson(body);
+        return coalesce("solve:" + job.key(), () -> solveToJson(job));
+    }
+
+    private String handleBatch(String body) throws Exception {
+        Object parsed = Json.parse(body);
+        if (parsed instanceof Map) {
+            parsed = ((Map<?, ?>) parsed).get("jobs");
+        }
+        if (!(parsed instanceof List)) {
+            throw new IllegalArgumentException("Expected an array of jobs or {\"jobs\":[...]}");
+        }
+        List<?> items = (List<?>) parsed;
+        List<Future<String>> results = new ArrayList<>(items.size());
+        for (Object item : items) {
+            if (!(item instanceof Map)) {
+                throw new IllegalArgumentException("Each job must be a JSON object");
+            }
+            @SuppressWarnings("unchecked")
+            SolveJob job = SolveJob.fromJson((Map<String, Object>) item);
+            results.add(executor.submit(() -> coalesce("solve:" + job.key(), () -> solveToJson(job))));
+        }
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < results.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            try {
+                sb.append(results.get(i).get());
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    private String handleMultiply(String body) throws Exception {
+        Map<String, Object> obj = Json.parseObject(body);
+        double[][] a = Json.toMatrix(obj.get("a"));
+        double[][] b = Json.toMatrix(obj.get("b"));
+        return coalesce("multiply:" + Arrays.deepToString(a) + Arrays.deepToString(b), () ->
+            Json.matrix(new StringBuilder("{\"result\":"), CalculatorBackend.multiplyMatrices(a, b)).append('}').toString());
+    }
+
+    private String handleLinearSolve(String body) throws Exception {
+        Map<String, Object> obj = Json.parseObject(body);
+        double[][] augmented = Json.toMatrix(obj.get("matrix"));
+        if (augmented[0].length != augmented.length + 1) {
+            throw new IllegalArgumentException("Augmented matrix must be n x (n+1)");
+        }
+        // Structured solve picks a banded, Cholesky or LU path; Cramer's rule is factorial in n
+        return coalesce("linear:" + Arrays.deepToString(augmented), () ->
+            Json.array(new StringBuilder("{\"solution\":"), CalculatorBackend.solveStructured(augmented).getSolution())
+                .append('}').toString());
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("requests_total ").append(requests.sum()).append('\n');
+        sb.append("requests_failed_total ").append(failures.sum()).append('\n');
+        sb.append("requests_coalesced_total ").append(coalesced.sum()).append('\n');
+        sb.append("solves_total ").append(solves.sum()).append('\n');
+        sb.append("requests_in_flight ").append(inFlight.size()).append('\n');
+        sb.append("request_seconds_total ").append(busyNanos.sum() / 1e9).append('\n');
+        sb.append(SolverMetrics.global().toText());
+        sb.append(PortfolioSolver.toText());
+        sb.append(CalculatorBackend.getResultCache().toText());
+        ResultStore store = CalculatorBackend.getResultStore();
+        if (store != null) {
+            sb.append(store.toText());
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    /**
+     * Runs {@code work} unless an identical request is already being computed, in which
+     * case this caller waits for that result instead.
+     */
+    private String coalesce(String key, Supplier<String> work) throws Exception {
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return existing.get();
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            }
+        }
+        try {
+            String value = work.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // Errors too (e.g. StackOverflowError from a deep recursion), or waiters never wake
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static Exception unwrap(ExecutionException e) {
+        if (e.getCause() instanceof Error) {
+            throw (Error) e.getCause();
+        }
+        return e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+    }
+
+    private String solveToJson(SolveJob job) {
+        solves.increment();
+        CalculatorBackend.Result result = job.run();
+        StringBuilder sb = new StringBuilder("{\"method\":");
+        Json.quote(sb, job.getMethod());
+        sb.append(",\"function\":");
+        Json.quote(sb, job.getFunction());
+        sb.append(",\"root\":");
+        Json.number(sb, result.getRoot());
+        sb.append(",\"converged\":").append(result.hasConverged());
+        if (result.getFailureReason() != null) {
+            sb.append(",\"failureReason\":");
+            Json.quote(sb, result.getFailureReason());
+        }
+        sb.append(",\"iterations\":").append(result.getSteps().size());
+        sb.append(",\"steps\":[");
+        List<CalculatorBackend.IterationStep> steps = result.getSteps();
+        for (int i = 0; i < steps.size(); i++) {
+            CalculatorBackend.IterationStep step = steps.get(i);
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"iteration\":").append(step.getIteration());
+            sb.append(",\"x\":");
+            Json.number(sb, step.getX());
+            sb.append(",\"fx\":");
+            Json.number(sb, step.getFx());
+            sb.append(",\"error\":");
+            Json.number(sb, step.getError());
+            sb.append('}');
+        }
+        return sb.append("]}").toString();
+    }
+
+    private static String errorJson(String message) {
+        return Json.quote(new StringBuilder("{\"error\":"), message).append('}').toString();
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
@@ -20,7 +20,8 @@ public class CalculatorSwing extends JFrame {
     private final Color textColor = new Color(236, 239, 244);
     private final Color hoverColor = new Color(46, 54, 66);
     private final String[] methodNames = {
-        "Newton-Raphson", "Secant", "Bisection", "Fixed-Point", "False Position", "Matrix Multiplication", "Cramer's Rule"
+        "Newton-Raphson", "Secant", "Bisection", "Fixed-Point", "False Position", "Auto", "Matrix Multiplication", "Cramer's Rule",
+        "LU Updates", "Jacobi", "Gauss-Seidel", "SOR", "Parameter Sweep"
     };
     private final String[] methodDescriptions = {
         "Newton's method finds successively better approximations using the function's derivative.",
@@ -28,11 +29,17 @@ public class CalculatorSwing extends JFrame {
         "The Bisection method repeatedly bisects an interval and selects a subinterval in which a root must lie.",
         "The Fixed-Point method iterates a function to find a point where f(x) = x.",
         "The False Position method is similar to bisection but uses a secant line to find the root.",
+        "Auto mode races every method above in parallel and keeps the first root that checks out.",
         "Multiply two matrices of compatible sizes.",
-        "Solve a system of linear equations using Cramer's Rule."
+        "Solve a system of linear equations using Cramer's Rule.",
+        "Solve a linear system by LU, re-solving edited coefficients with rank-1 updates.",
+        "Solve a linear system iteratively, updating every unknown from the previous iterate.",
+        "Solve a linear system iteratively, using each updated unknown immediately.",
+        "Gauss-Seidel with a relaxation factor to speed up convergence.",
+        "Solve f(x; p) = 0 across a range of a parameter p, starting each solve from the last root."
     };
     private final boolean[] hasTwoGuesses = {
-        false, true, true, false, true, false, false
+        false, true, true, false, true, true, false, false, false, false, false, false, false
     };
     
     // Custom window closing operation
@@ -89,7 +96,19 @@ public class CalculatorSwing extends JFrame {
 
     private void initUI() {
         // Set up main content container
-        contentPanel = new JPanel(new BorderLayout());
+        contentPanel = new JPanel(new BorderLayout()) {
+            private boolean painted;
+
+            @Override
+            public void paint(Graphics g) {
+                super.paint(g);
+                if (!painted) {
+                    painted = true;
+                    logFirstPaint();
+                    prewarmPanels(0);
+                }
+            }
+        };
         contentPanel.setBackground(backgroundColor);
         
         // Create title bar panel
@@ -106,18 +125,9 @@ public class CalculatorSwing extends JFrame {
         mainPanel.setBackground(backgroundColor);
         contentPanel.add(mainPanel, BorderLayout.CENTER);
         
-        // Add method panels to main panel
-        for (int i = 0; i < methodNames.length; i++) {
-            String methodName = methodNames[i];
-            JPanel methodPanel;
-            if (methodName.equals("Matrix Multiplication") || methodName.equals("Cramer's Rule")) {
-                methodPanel = new MatrixCalculatorPanel(methodName);
-            } else {
-                methodPanel = new ModernCalculatorPanel(methodDescriptions[i], hasTwoGuesses[i]);
-            }
-            methodPanels.put(methodName, methodPanel);
-            mainPanel.add(methodPanel, methodName);
-        }
+        // Only the first method panel is built up front; the rest are created on first
+        // selection or pre-warmed once the window has painted (see prewarmPanels)
+        getMethodPanel(methodNames[0]);
         
         // Show first method by default
         mainCardLayout.show(mainPanel, methodNames[0]);
@@ -153,6 +163,52 @@ public class CalculatorSwing extends JFrame {
         }
     }
     
+    /**
+     * Returns the panel for a method, building it and adding it to the card layout on first use.
+     */
+    private JPanel getMethodPanel(String methodName) {
+        JPanel methodPanel = methodPanels.get(methodName);
+        if (methodPanel == null) {
+            int i = java.util.Arrays.asList(methodNames).indexOf(methodName);
+            if (MatrixCalculatorPanel.handles(methodName)) {
+                methodPanel = new MatrixCalculatorPanel(methodName);
+            } else if (methodName.equals("Parameter Sweep")) {
+                methodPanel = new SweepCalculatorPanel();
+            } else {
+                methodPanel = new ModernCalculatorPanel(methodDescriptions[i], hasTwoGuesses[i]);
+            }
+            methodPanels.put(methodName, methodPanel);
+            mainPanel.add(methodPanel, methodName);
+        }
+        return methodPanel;
+    }
+    
+    /**
+     * Builds the remaining panels one per EDT turn after the first paint, so clicks and
+     * repaints can interleave and the window never blocks on the whole set.
+     */
+    private void prewarmPanels(int index) {
+        while (index < methodNames.length && methodPanels.containsKey(methodNames[index])) {
+            index++;
+        }
+        if (index >= methodNames.length) {
+            return;
+        }
+        final int next = index;
+        SwingUtilities.invokeLater(() -> {
+            getMethodPanel(methodNames[next]);
+            prewarmPanels(next + 1);
+        });
+    }
+    
+    private static void logFirstPaint() {
+        long now = System.currentTimeMillis();
+        long jvmStart = ProcessHandle.current().info().startInstant()
+                .map(java.time.Instant::toEpochMilli).orElse(mainEnteredMillis);
+        System.err.println("Startup: JVM start to first paint " + (now - jvmStart) + " ms"
+                + " (main entered at +" + (mainEnteredMillis - jvmStart) + " ms)");
+    }
+    
     private JPanel createTitleBar() {
         JPanel titleBar = new JPanel(new BorderLayout());
         titleBar.setBackground(primaryColor);
@@ -333,11 +389,11 @@ public class CalculatorSwing extends JFrame {
                 menuText.setForeground(accentColor);
                 accentBar.setBackground(accentColor);
                 
-                // Show selected panel
+                // Show selected panel, building it now if pre-warming has not reached it yet
+                JPanel currentPanel = getMethodPanel(text);
                 mainCardLayout.show(mainPanel, text);
                 
                 // Update ModernCalculatorPanel with correct method type
-                JPanel currentPanel = methodPanels.get(text);
                 if (currentPanel instanceof ModernCalculatorPanel) {
                     ((ModernCalculatorPanel) currentPanel).updateMethodType(text);
                 }
@@ -347,7 +403,10 @@ public class CalculatorSwing extends JFrame {
         return menuItem;
     }
 
+    private static long mainEnteredMillis = System.currentTimeMillis();
+
     public static void main(String[] args) {
+        mainEnteredMillis = System.currentTimeMillis();
         try {
             UIManager.setLookAndFeel(new FlatDarkLaf());
             UIManager.put("Button.arc", 10);
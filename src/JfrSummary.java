@@ -0,0 +1,124 @@
+package src;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Summarizes the {@link SolveEvent}s and {@link MatrixEvent}s in a Flight Recorder file,
+ * one row per solver method or matrix operation.
+ *
+ * <pre>
+ * java -cp core/target/core-1.0-SNAPSHOT.jar src.JfrSummary calc.jfr
+ * </pre>
+ */
+public class JfrSummary {
+    private static final class Row {
+        long count;
+        long converged;
+        long iterations;
+        long evaluations;
+        final List<Long> nanos = new ArrayList<>();
+
+        void add(long duration) {
+            count++;
+            nanos.add(duration);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrSummary recording.jfr");
+            System.exit(2);
+        }
+        System.out.print(summarize(Paths.get(args[0])));
+    }
+
+    public static String summarize(Path recording) throws IOException {
+        Map<String, Row> solves = new TreeMap<>();
+        Map<String, Row> matrices = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent e = file.readEvent();
+                switch (e.getEventType().getName()) {
+                    case "iterationcalculator.Solve": {
+                        Row row = row(solves, e.getString("method"));
+                        row.add(e.getDuration().toNanos());
+                        row.iterations += e.getInt("iterations");
+                        row.evaluations += e.getLong("evaluations");
+                        if (e.getBoolean("converged")) {
+                            row.converged++;
+                        }
+                        break;
+                    }
+                    case "iterationcalculator.Matrix": {
+                        String key = e.getString("operation") + " " + e.getInt("rows") + "x" + e.getInt("columns");
+                        row(matrices, key).add(e.getDuration().toNanos());
+                        break;
+                    }
+                    default:
+                        break;
+                }
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        if (solves.isEmpty() && matrices.isEmpty()) {
+            return sb.append("No IterationCalculator events in ").append(recording).append('\n').toString();
+        }
+        if (!solves.isEmpty()) {
+            sb.append(String.format("%-16s %8s %9s %9s %11s %10s %10s %10s%n",
+                    "method", "solves", "converged", "avg iter", "avg evals", "p50 us", "p99 us", "total ms"));
+            for (Map.Entry<String, Row> entry : solves.entrySet()) {
+                Row r = entry.getValue();
+                sb.append(String.format("%-16s %8d %9d %9.1f %11.1f %10.1f %10.1f %10.2f%n",
+                        entry.getKey(), r.count, r.converged, (double) r.iterations / r.count,
+                        (double) r.evaluations / r.count, percentile(r.nanos, 0.5) / 1e3,
+                        percentile(r.nanos, 0.99) / 1e3, total(r.nanos) / 1e6));
+            }
+        }
+        if (!matrices.isEmpty()) {
+            if (!solves.isEmpty()) {
+                sb.append('\n');
+            }
+            sb.append(String.format("%-16s %8s %10s %10s %10s%n", "operation", "calls", "p50 us", "p99 us", "total ms"));
+            for (Map.Entry<String, Row> entry : matrices.entrySet()) {
+                Row r = entry.getValue();
+                sb.append(String.format("%-16s %8d %10.1f %10.1f %10.2f%n", entry.getKey(), r.count,
+                        percentile(r.nanos, 0.5) / 1e3, percentile(r.nanos, 0.99) / 1e3, total(r.nanos) / 1e6));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Row row(Map<String, Row> rows, String key) {
+        Row row = rows.get(key);
+        if (row == null) {
+            row = new Row();
+            rows.put(key, row);
+        }
+        return row;
+    }
+
+    private static long percentile(List<Long> values, double p) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private static long total(List<Long> values) {
+        long sum = 0;
+        for (long v : values) {
+            sum += v;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,204 @@
+package src;
+
+/**
+ * LU factorization PA = LU with partial pivoting, computed once in O(n³) and then reused:
+ * every further right-hand side costs O(n²). L (unit lower) and U are packed into one
+ * array; {@code pivots[i]} is the original row that ended up in row i.
+ *
+ * Instances are immutable once constructed, so any number of threads may call
+ * {@link #solve} concurrently without locking.
+ */
+public final class LUDecomposition {
+    /** Pivots smaller than this (relative to the largest entry of A) count as singular. */
+    public static final double SINGULAR_TOLERANCE = 1e-12;
+
+    private final int n;
+    private final double[][] lu;
+    private final int[] pivots;
+    private final int sign;
+    private final boolean singular;
+
+    public LUDecomposition(double[][] a) {
+        n = a.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Matrix is empty");
+        }
+        lu = new double[n][];
+        double scale = 0;
+        for (int i = 0; i < n; i++) {
+            if (a[i].length != n) {
+                throw new IllegalArgumentException("LU factorization needs a square matrix");
+            }
+            lu[i] = a[i].clone();
+            for (double v : a[i]) {
+                scale = Math.max(scale, Math.abs(v));
+            }
+        }
+        pivots = new int[n];
+        for (int i = 0; i < n; i++) {
+            pivots[i] = i;
+        }
+        int s = 1;
+        boolean zeroPivot = scale == 0;
+        for (int k = 0; k < n; k++) {
+            int p = k;
+            for (int i = k + 1; i < n; i++) {
+                if (Math.abs(lu[i][k]) > Math.abs(lu[p][k])) {
+                    p = i;
+                }
+            }
+            if (p != k) {
+                double[] row = lu[p];
+                lu[p] = lu[k];
+                lu[k] = row;
+                int t = pivots[p];
+                pivots[p] = pivots[k];
+                pivots[k] = t;
+                s = -s;
+            }
+            double pivot = lu[k][k];
+            if (Math.abs(pivot) <= SINGULAR_TOLERANCE * scale) {
+                zeroPivot = true;
+                continue;
+            }
+            double[] rowK = lu[k];
+            for (int i = k + 1; i < n; i++) {
+                double[] rowI = lu[i];
+                double factor = rowI[k] / pivot;
+                rowI[k] = factor;
+                if (factor != 0) {
+                    for (int j = k + 1; j < n; j++) {
+                        rowI[j] -= factor * rowK[j];
+                    }
+                }
+            }
+        }
+        sign = s;
+        singular = zeroPivot;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean isSingular() {
+        return singular;
+    }
+
+    public int[] getPivots() {
+        return pivots.clone();
+    }
+
+    public double[][] getL() {
+        double[][] l = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(lu[i], 0, l[i], 0, i);
+            l[i][i] = 1;
+        }
+        return l;
+    }
+
+    public double[][] getU() {
+        double[][] u = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(lu[i], i, u[i], i, n - i);
+        }
+        return u;
+    }
+
+    public double determinant() {
+        double det = sign;
+        for (int i = 0; i < n; i++) {
+            det *= lu[i][i];
+        }
+        return det;
+    }
+
+    public double[] solve(double[] b) {
+        if (b.length != n) {
+            throw new IllegalArgumentException("Right-hand side has " + b.length + " entries, expected " + n);
+        }
+        checkSingular();
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            double[] row = lu[i];
+            double sum = b[pivots[i]];
+            for (int k = 0; k < i; k++) {
+                sum -= row[k] * x[k];
+            }
+            x[i] = sum;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double[] row = lu[i];
+            double sum = x[i];
+            for (int k = i + 1; k < n; k++) {
+                sum -= row[k] * x[k];
+            }
+            x[i] = sum / row[i];
+        }
+        return x;
+    }
+
+    /**
+     * Solves AX = B for all columns of the n x m matrix B at once. The substitutions work
+     * on whole rows of X, so the inner loops run over the m right-hand sides contiguously.
+     */
+    public double[][] solve(double[][] b) {
+        if (b.length != n) {
+            throw new IllegalArgumentException("Right-hand side has " + b.length + " rows, expected " + n);
+        }
+        checkSingular();
+        int m = b[0].length;
+        double[][] x = new double[n][];
+        for (int i = 0; i < n; i++) {
+            double[] bi = b[pivots[i]];
+            if (bi.length != m) {
+                throw new IllegalArgumentException("All rows of the right-hand side must have the same length");
+            }
+            double[] xi = bi.clone();
+            double[] row = lu[i];
+            for (int k = 0; k < i; k++) {
+                double f = row[k];
+                if (f != 0) {
+                    double[] xk = x[k];
+                    for (int j = 0; j < m; j++) {
+                        xi[j] -= f * xk[j];
+                    }
+                }
+            }
+            x[i] = xi;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double[] xi = x[i];
+            double[] row = lu[i];
+            for (int k = i + 1; k < n; k++) {
+                double f = row[k];
+                if (f != 0) {
+                    double[] xk = x[k];
+                    for (int j = 0; j < m; j++) {
+                        xi[j] -= f * xk[j];
+                    }
+                }
+            }
+            double pivot = row[i];
+            for (int j = 0; j < m; j++) {
+                xi[j] /= pivot;
+            }
+        }
+        return x;
+    }
+
+    public double[][] inverse() {
+        double[][] identity = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            identity[i][i] = 1;
+        }
+        return solve(identity);
+    }
+
+    private void checkSingular() {
+        if (singular) {
+            throw new IllegalArgumentException("Matrix is singular, system has no unique solution");
+        }
+    }
+}
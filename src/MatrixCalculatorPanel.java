@@ -13,6 +13,10 @@ public class MatrixCalculatorPanel extends JPanel {
     private JTextField[][] matrixBFields;
     private JTextField[][] augmentedFields;
     private int currentRowsA = 2, currentColsA = 2, currentRowsB = 2, currentColsB = 2;
+    private JTextField toleranceField;
+    private JTextField omegaField;
+    private UpdatableLinearSystem linearSystem;
+    private static final int MAX_ITERATIONS = 100;
 
 
     private final Color backgroundColor = new Color(18, 23, 30);
@@ -25,6 +29,27 @@ public class MatrixCalculatorPanel extends JPanel {
 
     private final Color inputFieldColor = new Color(46, 54, 66);
 
+    /**
+     * @return true for the sidebar entries this panel implements
+     */
+    public static boolean handles(String mode) {
+        switch (mode) {
+            case "Matrix Multiplication":
+            case "Cramer's Rule":
+            case "LU Updates":
+            case "Jacobi":
+            case "Gauss-Seidel":
+            case "SOR":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isIterative() {
+        return mode.equals("Jacobi") || mode.equals("Gauss-Seidel") || mode.equals("SOR");
+    }
+
     public MatrixCalculatorPanel(String mode) {
         this.mode = mode;
         setLayout(new BorderLayout(0, 0));
@@ -40,11 +65,7 @@ public class MatrixCalculatorPanel extends JPanel {
         title.setForeground(accentColor);
         title.setAlignmentX(Component.CENTER_ALIGNMENT);
         title.setBorder(BorderFactory.createEmptyBorder(20, 0, 0, 0));
-        if (mode.equals("Matrix Multiplication")) {
-            title.setText("Matrix Multiplication");
-        } else {
-            title.setText("Cramer's Rule");
-        }
+        title.setText(mode.equals("SOR") ? "Successive Over-Relaxation (SOR)" : mode);
         JLabel desc = new JLabel();
         desc.setFont(new Font("Segoe UI", Font.PLAIN, 15));
         desc.setForeground(textSecondaryColor);
@@ -52,8 +73,16 @@ public class MatrixCalculatorPanel extends JPanel {
         desc.setBorder(BorderFactory.createEmptyBorder(10, 30, 10, 30));
         if (mode.equals("Matrix Multiplication")) {
             desc.setText("Multiply two matrices of compatible sizes. Useful for linear algebra and data science.");
-        } else {
+        } else if (mode.equals("Cramer's Rule")) {
             desc.setText("Solve a system of linear equations using Cramer's Rule (n equations, n variables).");
+        } else if (mode.equals("LU Updates")) {
+            desc.setText("Solve by LU; after editing a few coefficients, Compute applies rank-1 updates instead of refactoring.");
+        } else if (mode.equals("Jacobi")) {
+            desc.setText("Iterate x(k+1) from x(k) until the residual |b - Ax| falls below the tolerance.");
+        } else if (mode.equals("Gauss-Seidel")) {
+            desc.setText("Like Jacobi, but each new component is used as soon as it is computed.");
+        } else {
+            desc.setText("Gauss-Seidel blended with the previous iterate by a relaxation factor omega (0 < omega < 2).");
         }
         headerPanel.add(title);
         headerPanel.add(desc);
@@ -220,6 +249,30 @@ public class MatrixCalculatorPanel extends JPanel {
             matrixInputPanel.add(Box.createVerticalStrut(20));
             matrixInputPanel.add(augLabel);
             matrixInputPanel.add(augPanel);
+            if (isIterative()) {
+                JPanel optionsPanel = new JPanel();
+                optionsPanel.setOpaque(false);
+                optionsPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
+                JLabel tolLabel = new JLabel("Tolerance: ");
+                tolLabel.setForeground(textColor);
+                optionsPanel.add(tolLabel);
+                toleranceField = createStyledField();
+                toleranceField.setColumns(6);
+                toleranceField.setText("0.0001");
+                optionsPanel.add(toleranceField);
+                if (mode.equals("SOR")) {
+                    optionsPanel.add(Box.createHorizontalStrut(20));
+                    JLabel omegaLabel = new JLabel("Omega: ");
+                    omegaLabel.setForeground(textColor);
+                    optionsPanel.add(omegaLabel);
+                    omegaField = createStyledField();
+                    omegaField.setColumns(4);
+                    omegaField.setText("1.25");
+                    optionsPanel.add(omegaField);
+                }
+                matrixInputPanel.add(Box.createVerticalStrut(16));
+                matrixInputPanel.add(optionsPanel);
+            }
         }
         matrixInputPanel.revalidate();
         matrixInputPanel.repaint();
@@ -248,16 +301,50 @@ public class MatrixCalculatorPanel extends JPanel {
                 for (int i = 0; i < n; i++)
                     for (int j = 0; j < n+1; j++)
                         aug[i][j] = Double.parseDouble(augmentedFields[i][j].getText());
-                double[] sol = CalculatorBackend.solveCramer(aug);
-                StringBuilder sb = new StringBuilder();
-                for (int i = 0; i < sol.length; i++)
-                    sb.append("x" + (i+1) + " = " + sol[i] + "\n");
-                showResultDialog(sb.toString(), true);
+                if (isIterative()) {
+                    double tolerance = Double.parseDouble(toleranceField.getText().trim());
+                    CalculatorBackend.LinearResult result;
+                    if (mode.equals("Jacobi")) {
+                        result = CalculatorBackend.jacobi(aug, tolerance, MAX_ITERATIONS);
+                    } else if (mode.equals("Gauss-Seidel")) {
+                        result = CalculatorBackend.gaussSeidel(aug, tolerance, MAX_ITERATIONS);
+                    } else {
+                        double omega = Double.parseDouble(omegaField.getText().trim());
+                        result = CalculatorBackend.sor(aug, omega, tolerance, MAX_ITERATIONS);
+                    }
+                    showResultDialog(result.getHistory(), result.hasConverged());
+                    return;
+                }
+                if (mode.equals("Cramer's Rule")) {
+                    showResultDialog(solutionToString(CalculatorBackend.solveCramer(aug)), true);
+                    return;
+                }
+                // Keep the factorization between clicks; editing a few coefficients becomes
+                // a rank-1 update rather than a full re-solve
+                double[][] a = new double[n][n];
+                double[] b = new double[n];
+                for (int i = 0; i < n; i++) {
+                    System.arraycopy(aug[i], 0, a[i], 0, n);
+                    b[i] = aug[i][n];
+                }
+                if (linearSystem == null || linearSystem.size() != n) {
+                    linearSystem = CalculatorBackend.updatableSystem(a);
+                } else {
+                    linearSystem.setMatrix(a);
+                }
+                showResultDialog(solutionToString(linearSystem.solve(b)), true);
             }
         } catch (Exception ex) {
             showResultDialog("Error: " + ex.getMessage(), false);
         }
     }
+
+    private String solutionToString(double[] sol) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < sol.length; i++)
+            sb.append("x" + (i+1) + " = " + sol[i] + "\n");
+        return sb.toString();
+    }
     private void showResultDialog(String result, boolean success) {
 
         RoundedPanel panel = new RoundedPanel(22, panelColor);
@@ -272,14 +359,18 @@ public class MatrixCalculatorPanel extends JPanel {
         area.setBackground(panelColor);
         area.setEditable(false);
         area.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
-        area.setLineWrap(true);
+        area.setLineWrap(!isIterative());
         area.setWrapStyleWord(true);
+        if (isIterative()) {
+            area.setFont(new Font("Consolas", Font.PLAIN, 14));
+        }
 
         JScrollPane scroll = new JScrollPane(area);
         scroll.setBorder(BorderFactory.createEmptyBorder());
         scroll.setBackground(panelColor);
         scroll.getViewport().setBackground(panelColor);
-        scroll.setPreferredSize(new Dimension(420, 120));
+        // Iteration traces need room (and unwrapped lines) to stay readable as a table
+        scroll.setPreferredSize(isIterative() ? new Dimension(720, 380) : new Dimension(420, 120));
         panel.add(scroll, BorderLayout.CENTER);
         JButton closeButton = new JButton("Close");
         closeButton.setFont(new Font("Segoe UI", Font.BOLD, 14));
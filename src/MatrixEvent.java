@@ -0,0 +1,63 @@
+package src;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one matrix operation (multiply, solve, factorization).
+ * Same near-zero cost as {@link SolveEvent} when recording is off, and likewise only
+ * loads the JFR event class once Flight Recorder has been initialized.
+ */
+final class MatrixEvent {
+    private static final MatrixEvent DISABLED = new MatrixEvent(null);
+
+    private final Jfr event;
+
+    private MatrixEvent(Jfr event) {
+        this.event = event;
+    }
+
+    static MatrixEvent started() {
+        if (!FlightRecorder.isInitialized()) {
+            return DISABLED;
+        }
+        Jfr event = new Jfr();
+        event.begin();
+        return new MatrixEvent(event);
+    }
+
+    void finish(String operation, int rows, int columns, int resultColumns) {
+        if (event != null && event.shouldCommit()) {
+            event.operation = operation;
+            event.rows = rows;
+            event.columns = columns;
+            event.resultColumns = resultColumns;
+            event.commit();
+        }
+    }
+
+    @Name("iterationcalculator.Matrix")
+    @Label("Matrix Operation")
+    @Category({"IterationCalculator", "Matrix"})
+    @Description("One call to a CalculatorBackend matrix operation")
+    @StackTrace(false)
+    static final class Jfr extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Rows")
+        int rows;
+
+        @Label("Columns")
+        int columns;
+
+        @Label("Result Columns")
+        @Description("Columns of the right-hand operand for multiply, 1 for a linear solve, 0 for a factorization")
+        int resultColumns;
+    }
+}
@@ -1,8 +1,13 @@
 package src;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 import java.util.Stack;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 import net.objecthunter.exp4j.Expression;
 import net.objecthunter.exp4j.ExpressionBuilder;
 import java.math.BigDecimal;
@@ -21,6 +26,31 @@ public class Methods {
 
     private int maxIteration = 100;
     private BigDecimal tolerance;
+    private long evaluations;
+    private long evaluationRequests;
+    private String failureReason;
+    private AtomicBoolean cancelled;
+    private DifferenceScheme differenceScheme = DifferenceScheme.CENTRAL;
+    private double typicalX = 1;
+
+    // Online health checks of the open methods (fixed-point, Newton, secant)
+    private static final int DIVERGENCE_STEPS = 5;
+    private static final int OSCILLATION_STEPS = 6;
+    private double lastStep;
+    private double stepBeforeLast;
+    private int growingSteps;
+    private int alternatingSteps;
+    private double cycleAnchor;
+    private int cyclePower;
+    private int cycleLength;
+    private double convergenceOrder = Double.NaN;
+
+    // Per-solve memo of f(x), keyed on the bits of x: open addressing with linear probing
+    private Expression memoExpression;
+    private long[] memoKeys = new long[64];
+    private double[] memoValues = new double[64];
+    private boolean[] memoUsed = new boolean[64];
+    private int memoSize;
 
     public Methods(int maxIteration) {
         this.maxIteration = maxIteration;
@@ -35,26 +65,312 @@ public class Methods {
         this.tolerance = tolerance;
     }
 
+    public void setDifferenceScheme(DifferenceScheme differenceScheme) {
+        this.differenceScheme = differenceScheme;
+    }
+
+    public DifferenceScheme getDifferenceScheme() {
+        return differenceScheme;
+    }
+
+    /**
+     * Magnitude of x below which the difference step stops shrinking (default 1). Lower it
+     * only for problems whose whole scale is small, such as a root near 1e-6.
+     */
+    public void setTypicalX(double typicalX) {
+        if (!(typicalX > 0) || Double.isInfinite(typicalX)) {
+            throw new IllegalArgumentException("Typical x must be positive and finite");
+        }
+        this.typicalX = typicalX;
+    }
+
+    /**
+     * Shares a cancellation flag with other solves; once it is set, the next call to
+     * {@link #evaluate} throws CancellationException, unwinding whichever method is running.
+     */
+    public void setCancellation(AtomicBoolean cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    public boolean isCancelled() {
+        return cancelled != null && cancelled.get();
+    }
+
+    /**
+     * Evaluates f(x), remembering the value so each distinct point of a solve is computed
+     * once. The bracketing and secant recursions revisit f(xL), f(xR) and f(x1) at every
+     * level; with the memo those repeats are table lookups. Passing a different expression
+     * clears the memo.
+     */
+    public double evaluate(Expression expression, double x) {
+        if (cancelled != null && cancelled.get()) {
+            throw new CancellationException("Solve cancelled");
+        }
+        evaluationRequests++;
+        if (expression != memoExpression) {
+            clearMemo();
+            memoExpression = expression;
+        }
+        long key = Double.doubleToLongBits(x);
+        int mask = memoKeys.length - 1;
+        int slot = memoSlot(key, mask);
+        while (memoUsed[slot]) {
+            if (memoKeys[slot] == key) {
+                return memoValues[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        evaluations++;
+        double value = expression.setVariable("x", x).evaluate();
+        memoUsed[slot] = true;
+        memoKeys[slot] = key;
+        memoValues[slot] = value;
+        if (++memoSize * 2 > memoKeys.length) {
+            growMemo();
+        }
+        return value;
+    }
+
+    private static int memoSlot(long key, int mask) {
+        return (int) (key ^ (key >>> 32)) * 0x9E3779B9 & mask;
+    }
+
+    private void clearMemo() {
+        Arrays.fill(memoUsed, false);
+        memoSize = 0;
+    }
+
+    private void growMemo() {
+        long[] keys = memoKeys;
+        double[] values = memoValues;
+        boolean[] used = memoUsed;
+        memoKeys = new long[keys.length * 2];
+        memoValues = new double[keys.length * 2];
+        memoUsed = new boolean[keys.length * 2];
+        int mask = memoKeys.length - 1;
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                int slot = memoSlot(keys[i], mask);
+                while (memoUsed[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                memoUsed[slot] = true;
+                memoKeys[slot] = keys[i];
+                memoValues[slot] = values[i];
+            }
+        }
+    }
+
+    /**
+     * Number of times f was actually computed, i.e. distinct points visited.
+     */
+    public long getEvaluationCount() {
+        return evaluations;
+    }
+
+    /**
+     * Number of f(x) lookups made by the solvers, including those answered by the memo.
+     */
+    public long getEvaluationRequests() {
+        return evaluationRequests;
+    }
+
+    /**
+     * Why the last solve stopped without converging, or null if it did not fail.
+     */
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    /**
+     * Estimated order q of convergence from the last three steps of the most recent
+     * fixed-point, Newton or secant solve, |Δₖ| ≈ C|Δₖ₋₁|^q: about 1 for linear, 1.6 for
+     * secant and 2 for Newton near a simple root. NaN until three steps were taken.
+     */
+    public double getConvergenceOrder() {
+        return convergenceOrder;
+    }
+
+    private void startMonitor(double x0) {
+        lastStep = Double.NaN;
+        stepBeforeLast = Double.NaN;
+        growingSteps = 0;
+        alternatingSteps = 0;
+        cycleAnchor = x0;
+        cyclePower = 1;
+        cycleLength = 1;
+        convergenceOrder = Double.NaN;
+    }
+
+    private void recordStep(double step) {
+        double a = Math.abs(step);
+        double b = Math.abs(lastStep);
+        double c = Math.abs(stepBeforeLast);
+        if (a > 0 && b > 0 && c > 0 && b != c) {
+            double q = Math.log(a / b) / Math.log(b / c);
+            if (Double.isFinite(q)) {
+                convergenceOrder = q;
+            }
+        }
+        stepBeforeLast = lastStep;
+        lastStep = step;
+    }
+
+    /**
+     * Checks the step x -> next of an open method that has not converged yet. Returns
+     * false, with failureReason set, when |Δx| keeps growing, the steps flip sign without
+     * shrinking, or next repeats an earlier iterate (Brent's cycle detection; iterates are
+     * rounded to the tolerance, so a cycle repeats exactly).
+     */
+    private boolean monitor(double x, double next) {
+        double step = next - x;
+        double previous = lastStep;
+        recordStep(step);
+        if (!Double.isNaN(previous)) {
+            growingSteps = Math.abs(step) > Math.abs(previous) ? growingSteps + 1 : 0;
+            alternatingSteps = step * previous < 0 && Math.abs(step) >= 0.9 * Math.abs(previous)
+                    ? alternatingSteps + 1 : 0;
+        }
+        if (growingSteps >= DIVERGENCE_STEPS) {
+            failureReason = "Diverging: |Δx| grew for " + growingSteps + " consecutive steps";
+            return false;
+        }
+        if (next == cycleAnchor) {
+            failureReason = cycleLength == 2 ? "Oscillating between two points"
+                    : "Caught in a cycle of " + cycleLength + " iterates";
+            return false;
+        }
+        if (cyclePower == cycleLength) {
+            cycleAnchor = next;
+            cyclePower *= 2;
+            cycleLength = 0;
+        }
+        cycleLength++;
+        if (alternatingSteps >= OSCILLATION_STEPS) {
+            failureReason = "Oscillating: " + alternatingSteps + " steps alternated in sign without shrinking";
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * A zero slope, or one so small that the Newton step overflows. Tiny but usable
+     * derivatives (f = log(x) - 20 near 5e8 has f' = 2e-9) are not rejected.
+     */
+    private static boolean isZeroDerivative(double fx, double derivative) {
+        return derivative == 0 || !Double.isFinite(fx / derivative);
+    }
+
+    // Checked before rounding, which cannot represent NaN or infinity
+    private boolean overflowed(double next) {
+        if (Double.isFinite(next)) {
+            return false;
+        }
+        failureReason = "Iterate overflowed or became NaN";
+        return true;
+    }
+
+    /**
+     * How {@link #numericalDerivative} differences f. Every scheme except FIXED scales its
+     * step with max(|x|, {@link #setTypicalX typical x}), so the truncation and rounding
+     * errors stay balanced for large x, and for tiny x once typical x is set to match:
+     * <ul>
+     *   <li>FIXED: central difference with h = 1e-5 whatever x is (the original behaviour);</li>
+     *   <li>FORWARD: (f(x+h) - f(x)) / h with h ~ sqrt(eps); one evaluation when f(x) is known;</li>
+     *   <li>CENTRAL: (f(x+h) - f(x-h)) / 2h with h ~ cbrt(eps); two evaluations;</li>
+     *   <li>RICHARDSON: combines the central differences at h and h/2 into a fourth-order
+     *       estimate, halving h (and reusing the h/2 points) while the two disagree.</li>
+     * </ul>
+     */
+    public enum DifferenceScheme { FIXED, FORWARD, CENTRAL, RICHARDSON }
+
+    private static final double EPSILON = Math.ulp(1.0);
+    private static final double FORWARD_STEP = Math.sqrt(EPSILON);
+    private static final double CENTRAL_STEP = Math.cbrt(EPSILON);
+    private static final double RICHARDSON_STEP = Math.pow(EPSILON, 0.2);
+    private static final int RICHARDSON_HALVINGS = 4;
+
     public double numericalDerivative(Expression expression, double x) {
-        double h = 1e-5;
-        expression.setVariable("x", x + h);
-        double f1 = expression.evaluate();
-        expression.setVariable("x", x - h);
-        double f2 = expression.evaluate();
-        return (f1 - f2) / (2 * h);
+        return numericalDerivative(expression, x, Double.NaN);
+    }
+
+    /**
+     * f'(x) by {@link #getDifferenceScheme()}. {@code fx} is f(x) when the caller already
+     * has it (NaN otherwise); the forward scheme then costs a single new evaluation.
+     */
+    public double numericalDerivative(Expression expression, double x, double fx) {
+        switch (differenceScheme) {
+            case FIXED:
+                return centralDifference(expression, x, 1e-5);
+            case FORWARD: {
+                double h = step(x, FORWARD_STEP);
+                if (Double.isNaN(fx)) {
+                    fx = evaluate(expression, x);
+                }
+                return (evaluate(expression, x + h) - fx) / h;
+            }
+            case RICHARDSON:
+                return richardson(expression, x);
+            default:
+                return centralDifference(expression, x, step(x, CENTRAL_STEP));
+        }
+    }
+
+    // Relative step, nudged so that x + h - x == h exactly
+    private double step(double x, double relative) {
+        double h = relative * Math.max(Math.abs(x), typicalX);
+        double shifted = x + h;
+        h = shifted - x;
+        return h == 0 ? Math.ulp(x) : h;
+    }
+
+    private double centralDifference(Expression expression, double x, double h) {
+        return (evaluate(expression, x + h) - evaluate(expression, x - h)) / (2 * h);
+    }
+
+    private double richardson(Expression expression, double x) {
+        double h = step(x, RICHARDSON_STEP);
+        double coarse = centralDifference(expression, x, h);
+        double best = Double.NaN;
+        double bestError = Double.POSITIVE_INFINITY;
+        double previousError = Double.POSITIVE_INFINITY;
+        for (int i = 0; i <= RICHARDSON_HALVINGS; i++) {
+            h /= 2;
+            double fine = centralDifference(expression, x, h);
+            double estimate = fine + (fine - coarse) / 3;
+            double error = Math.abs(fine - coarse);
+            if (error < bestError || Double.isNaN(best)) {
+                best = estimate;
+                bestError = error;
+            }
+            // Once the h^2 term is small the h^4 remainder is negligible; growth means noise
+            if (!(error > 1e-3 * Math.abs(estimate)) || error > previousError) {
+                break;
+            }
+            previousError = error;
+            coarse = fine;
+        }
+        return best;
     }
 
     public Queue<Double> fixedPoint(Expression expression, double x, Queue<Double> xn){
         if(xn.isEmpty()) {
             xn.add(roundToTolerance(x));
+            startMonitor(roundToTolerance(x));
         }
         if(xn.size() == maxIteration + 1){
-            System.out.println("Max iterations reached. Cannot proceed.");
+            failureReason = "Max iterations reached";
+            return xn;
+        }
+        double nextX = evaluate(expression, x);
+        if (overflowed(nextX)) {
             return xn;
         }
-        double nextX = expression.setVariable("x", x).evaluate();
         nextX = roundToTolerance(nextX);
         if(Math.abs(nextX - x) <= tolerance.doubleValue()){
+            recordStep(nextX - x);
+            return xn;
+        } else if (!monitor(x, nextX)) {
             return xn;
         } else {
             xn.add(nextX);
@@ -65,19 +381,31 @@ public class Methods {
     public Stack<Double> newtonRaphson(Expression expression, double x, Stack<Double> xn){
         if(xn.isEmpty()) {
             xn.push(roundToTolerance(x));
+            startMonitor(roundToTolerance(x));
         }
         if(xn.size() == maxIteration + 1){
-            System.out.println("Max iterations reached. Cannot proceed.");
+            failureReason = "Max iterations reached";
+            return xn;
+        }
+        double fx = evaluate(expression, x);
+        double xd = numericalDerivative(expression, x, fx);
+        if (!Double.isFinite(xd)) {
+            failureReason = "Derivative is not finite";
+            return xn;
+        }
+        if (isZeroDerivative(fx, xd)) {
+            failureReason = "Derivative is zero";
             return xn;
         }
-        double xd = numericalDerivative(expression, x);
-        if (new BigDecimal(xd).setScale(4, RoundingMode.HALF_UP).compareTo(BigDecimal.ZERO) == 0) {
-            System.out.println("Derivative is zero. Cannot proceed.");
+        double nextX = x - (fx / xd);
+        if (overflowed(nextX)) {
             return xn;
         }
-        double nextX = x - (expression.setVariable("x", x).evaluate() / xd);
         nextX = roundToTolerance(nextX);
         if(Math.abs(nextX - x) <= tolerance.doubleValue()){
+            recordStep(nextX - x);
+            return xn;
+        } else if (!monitor(x, nextX)) {
             return xn;
         } else {
             xn.push(nextX);
@@ -85,20 +413,111 @@ public class Methods {
         }
     }
 
+    /**
+     * Newton's method that keeps f'(x) between steps, saving the evaluations of
+     * {@link #numericalDerivative} on every step that reuses it. The derivative is
+     * recomputed every {@code refreshInterval} steps (Shamanskii); pass
+     * {@link Integer#MAX_VALUE} to freeze it at x0 (chord method).
+     *
+     * With {@code adaptive}, a step on a reused derivative that shrinks by less than half
+     * compared with the previous step is thrown away and redone with a fresh derivative,
+     * and the interval is halved; a full interval of steps that each shrink by at least
+     * a factor of four doubles it, up to 32.
+     *
+     * {@code derivatives} and {@code refreshed} get one entry per step: the derivative
+     * used at xn.get(i) and whether it was computed there.
+     */
+    public Stack<Double> shamanskii(Expression expression, double x, int refreshInterval, boolean adaptive,
+                                    Stack<Double> xn, List<Double> derivatives, List<Boolean> refreshed) {
+        if (refreshInterval < 1) {
+            throw new IllegalArgumentException("Refresh interval must be at least 1");
+        }
+        x = roundToTolerance(x);
+        xn.push(x);
+        startMonitor(x);
+        int interval = refreshInterval;
+        int sinceRefresh = 0;
+        boolean fastSinceRefresh = true;
+        double derivative = Double.NaN;
+        double previousStep = Double.NaN;
+        while (true) {
+            if (xn.size() == maxIteration + 1) {
+                failureReason = "Max iterations reached";
+                return xn;
+            }
+            boolean fresh = Double.isNaN(derivative) || sinceRefresh >= interval;
+            if (fresh) {
+                if (adaptive && sinceRefresh >= interval && fastSinceRefresh) {
+                    interval = Math.min(interval * 2, 32);
+                }
+            }
+            double fx = evaluate(expression, x);
+            if (fresh) {
+                derivative = numericalDerivative(expression, x, fx);
+            }
+            double step = fx / derivative;
+            if (adaptive && !fresh && !Double.isNaN(previousStep) && Math.abs(step) > Math.abs(previousStep) / 2) {
+                // Contraction too slow for the stale slope; pay for a new one
+                fresh = true;
+                interval = Math.max(1, interval / 2);
+                derivative = numericalDerivative(expression, x, fx);
+                step = fx / derivative;
+            }
+            if (fresh) {
+                sinceRefresh = 0;
+                fastSinceRefresh = true;
+            } else if (!Double.isNaN(previousStep)) {
+                fastSinceRefresh &= Math.abs(step) <= Math.abs(previousStep) / 4;
+            }
+            if (!Double.isFinite(derivative)) {
+                failureReason = "Derivative is not finite";
+                return xn;
+            }
+            if (isZeroDerivative(fx, derivative)) {
+                failureReason = "Derivative is zero";
+                return xn;
+            }
+            derivatives.add(derivative);
+            refreshed.add(fresh);
+            sinceRefresh++;
+            if (overflowed(x - step)) {
+                return xn;
+            }
+            double nextX = roundToTolerance(x - step);
+            if (Math.abs(nextX - x) <= tolerance.doubleValue()) {
+                recordStep(nextX - x);
+                return xn;
+            }
+            if (!monitor(x, nextX)) {
+                return xn;
+            }
+            previousStep = step;
+            xn.push(nextX);
+            x = nextX;
+        }
+    }
+
     public ArrayList<Double> secant(Expression expression, double x0, double x1, ArrayList<Double> xn){
         if(xn.size() == 0){
             xn.add(roundToTolerance(x0));
             xn.add(roundToTolerance(x1));
+            startMonitor(roundToTolerance(x1));
         }
         if(xn.size() == maxIteration + 1){
-            System.out.println("Max iterations reached. Cannot proceed.");
+            failureReason = "Max iterations reached";
+            return xn;
+        }
+        double nextX = x1 - (evaluate(expression, x1) * ((x1 - x0) / (evaluate(expression, x1) - evaluate(expression, x0))));
+        if (overflowed(nextX)) {
             return xn;
         }
-        double nextX = x1 - (expression.setVariable("x", x1).evaluate() * ((x1 - x0) / (expression.setVariable("x", x1).evaluate() - expression.setVariable("x", x0).evaluate())));
         nextX = roundToTolerance(nextX);
         if(Math.abs(nextX - x1) <= tolerance.doubleValue()){
+            recordStep(nextX - x1);
             xn.add(nextX);
             return xn;
+        } else if (!monitor(x1, nextX)) {
+            return xn;
         } else {
             xn.add(nextX);
             return secant(expression, x1, nextX, xn);
@@ -111,21 +530,21 @@ public class Methods {
             xn.add(new Pair<Double, Double>(xL, xR));
         }
         if(xn.size() == maxIteration + 1){
-            System.out.println("Max iterations reached. Cannot proceed.");
+            failureReason = "Max iterations reached";
             return xn;
         }
         
         double xM = (xL + xR) / 2;
-        if(expression.setVariable("x", xL).evaluate() * expression.setVariable("x", xR).evaluate()> 0){
-            System.out.println("xL and xR should have opposite signs");
+        if(evaluate(expression, xL) * evaluate(expression, xR)> 0){
+            failureReason = "xL and xR should have opposite signs";
             return xn;
         }
-        double fxM = expression.setVariable("x", xM).evaluate();
+        double fxM = evaluate(expression, xM);
         
         if(Math.abs(xR - xL) <= tolerance.doubleValue()){
             xn.add(new Pair<Double, Double>(xM, xM));
             return xn;
-        } else if (expression.setVariable("x", xL).evaluate() * fxM < 0){
+        } else if (evaluate(expression, xL) * fxM < 0){
             xn.add(new Pair<Double, Double>(xL, xM));
             return bisection(expression, xL, xM, xn);
         } else {
@@ -136,19 +555,19 @@ public class Methods {
 
     public ArrayList<Pair<Double, Double>> falsePosition(Expression expression, double xL, double xR, ArrayList<Pair<Double, Double>> xn){
         if(xn.size() == maxIteration){
-            System.out.println("Max iterations reached. Cannot proceed.");
+            failureReason = "Max iterations reached";
             return xn;
         }
-        if(expression.setVariable("x", xL).evaluate() * expression.setVariable("x", xR).evaluate()> 0){
-            System.out.println("xL and xR should have opposite signs");
+        if(evaluate(expression, xL) * evaluate(expression, xR)> 0){
+            failureReason = "xL and xR should have opposite signs";
             return xn;
         }
-        double nextX = xL + (((xR-xL) * (-1 * expression.setVariable("x", xL).evaluate())) / (expression.setVariable("x", xR).evaluate() - expression.setVariable("x", xL).evaluate()));
+        double nextX = xL + (((xR-xL) * (-1 * evaluate(expression, xL))) / (evaluate(expression, xR) - evaluate(expression, xL)));
         nextX = roundToTolerance(nextX);
         if(Math.abs(nextX - xL) <= tolerance.doubleValue() || Math.abs(nextX - xR) < tolerance.doubleValue()){
             xn.add(new Pair<Double,Double>(nextX, nextX + tolerance.doubleValue()));
             return xn;
-        } else if (expression.setVariable("x", xL).evaluate() * expression.setVariable("x", nextX).evaluate() < 0){
+        } else if (evaluate(expression, xL) * evaluate(expression, nextX) < 0){
             xn.add(new Pair<Double,Double>(xL, nextX));
             return falsePosition(expression, xL, nextX, xn);
         } else {
@@ -166,10 +585,15 @@ public class Methods {
             throw new IllegalArgumentException("Number of columns of A must equal number of rows of B");
         }
         double[][] result = new double[aRows][bCols];
+        // i-k-j order walks rows of B and the result contiguously; each result[i][j] still
+        // sums over k in ascending order, so the values are bit-for-bit the same as i-j-k
         for (int i = 0; i < aRows; i++) {
-            for (int j = 0; j < bCols; j++) {
-                for (int k = 0; k < aCols; k++) {
-                    result[i][j] += a[i][k] * b[k][j];
+            double[] row = result[i];
+            for (int k = 0; k < aCols; k++) {
+                double aik = a[i][k];
+                double[] bk = b[k];
+                for (int j = 0; j < bCols; j++) {
+                    row[j] += aik * bk[j];
                 }
             }
         }
@@ -222,6 +646,732 @@ public class Methods {
         return det;
     }
 
+    /**
+     * Jacobi iteration for Ax = b starting from {@code x0}. Every component of the new
+     * iterate depends only on the previous iterate, so with {@code parallel} the rows of
+     * each sweep (and the residual) are split across the common ForkJoin pool.
+     * Stops when ||b - Ax||inf <= tolerance * max(||b||inf, 1); each iterate is added to
+     * {@code xn} and its residual norm to {@code residuals}.
+     */
+    public ArrayList<double[]> jacobi(double[][] a, double[] b, double[] x0, boolean parallel,
+                                      ArrayList<double[]> xn, ArrayList<Double> residuals) {
+        int n = checkSystem(a, b, x0);
+        double limit = tolerance.doubleValue() * Math.max(normInf(b), 1);
+        double[] x = x0.clone();
+        xn.add(x);
+        residuals.add(residualNorm(a, b, x, parallel));
+        while (residuals.get(residuals.size() - 1) > limit) {
+            if (xn.size() == maxIteration + 1) {
+                failureReason = "Max iterations reached";
+                return xn;
+            }
+            final double[] prev = x;
+            final double[] next = new double[n];
+            if (parallel) {
+                IntStream.range(0, n).parallel().forEach(i -> next[i] = jacobiRow(a, b, prev, i));
+            } else {
+                for (int i = 0; i < n; i++) {
+                    next[i] = jacobiRow(a, b, prev, i);
+                }
+            }
+            x = next;
+            xn.add(x);
+            double r = residualNorm(a, b, x, parallel);
+            residuals.add(r);
+            if (Double.isNaN(r) || Double.isInfinite(r)) {
+                failureReason = "Iteration diverged";
+                return xn;
+            }
+        }
+        return xn;
+    }
+
+    public ArrayList<double[]> gaussSeidel(double[][] a, double[] b, double[] x0,
+                                           ArrayList<double[]> xn, ArrayList<Double> residuals) {
+        return sor(a, b, x0, 1.0, xn, residuals);
+    }
+
+    /**
+     * Successive over-relaxation: a Gauss-Seidel sweep (new values used as soon as they are
+     * computed) blended with the previous value by {@code omega}. omega = 1 is plain
+     * Gauss-Seidel. Same stopping rule and bookkeeping as {@link #jacobi}.
+     */
+    public ArrayList<double[]> sor(double[][] a, double[] b, double[] x0, double omega,
+                                   ArrayList<double[]> xn, ArrayList<Double> residuals) {
+        if (!(omega > 0 && omega < 2)) {
+            throw new IllegalArgumentException("Relaxation factor must be between 0 and 2");
+        }
+        int n = checkSystem(a, b, x0);
+        double limit = tolerance.doubleValue() * Math.max(normInf(b), 1);
+        double[] x = x0.clone();
+        xn.add(x);
+        residuals.add(residualNorm(a, b, x, false));
+        while (residuals.get(residuals.size() - 1) > limit) {
+            if (xn.size() == maxIteration + 1) {
+                failureReason = "Max iterations reached";
+                return xn;
+            }
+            x = x.clone();
+            for (int i = 0; i < n; i++) {
+                x[i] = (1 - omega) * x[i] + omega * jacobiRow(a, b, x, i);
+            }
+            xn.add(x);
+            double r = residualNorm(a, b, x, false);
+            residuals.add(r);
+            if (Double.isNaN(r) || Double.isInfinite(r)) {
+                failureReason = "Iteration diverged";
+                return xn;
+            }
+        }
+        return xn;
+    }
+
+    private static double jacobiRow(double[][] a, double[] b, double[] x, int i) {
+        double sum = b[i];
+        double[] row = a[i];
+        for (int j = 0; j < row.length; j++) {
+            if (j != i) {
+                sum -= row[j] * x[j];
+            }
+        }
+        return sum / row[i];
+    }
+
+    private static double residualNorm(double[][] a, double[] b, double[] x, boolean parallel) {
+        if (parallel) {
+            return IntStream.range(0, b.length).parallel().mapToDouble(i -> rowResidual(a, b, x, i)).max().orElse(0);
+        }
+        double max = 0;
+        for (int i = 0; i < b.length; i++) {
+            max = Math.max(max, rowResidual(a, b, x, i));
+        }
+        return max;
+    }
+
+    private static double rowResidual(double[][] a, double[] b, double[] x, int i) {
+        double sum = b[i];
+        double[] row = a[i];
+        for (int j = 0; j < row.length; j++) {
+            sum -= row[j] * x[j];
+        }
+        return Math.abs(sum);
+    }
+
+    private static double normInf(double[] v) {
+        double max = 0;
+        for (double d : v) {
+            max = Math.max(max, Math.abs(d));
+        }
+        return max;
+    }
+
+    private static int checkSystem(double[][] a, double[] b, double[] x0) {
+        int n = a.length;
+        if (b.length != n || x0.length != n) {
+            throw new IllegalArgumentException("Matrix, right-hand side and initial guess sizes differ");
+        }
+        for (int i = 0; i < n; i++) {
+            if (a[i].length != n) {
+                throw new IllegalArgumentException("Coefficient matrix must be square");
+            }
+            if (a[i][i] == 0) {
+                throw new IllegalArgumentException("Zero on the diagonal in row " + (i + 1) + "; reorder the equations");
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Conjugate Gradient for a symmetric positive definite sparse A. Each iteration costs
+     * one sparse matrix-vector product plus O(n) vector work. Stops when
+     * ||b - Ax||2 <= tolerance * max(||b||2, 1); iterates are not kept (systems can be
+     * large), only the residual norm of every step in {@code residuals}.
+     */
+    public double[] conjugateGradient(SparseMatrix a, double[] b, double[] x0, ArrayList<Double> residuals) {
+        int n = b.length;
+        if (a.getRows() != n || a.getCols() != n || x0.length != n) {
+            throw new IllegalArgumentException("Conjugate Gradient needs a square matrix matching b and x0");
+        }
+        double[] x = x0.clone();
+        double[] ax = a.multiply(x);
+        double[] r = new double[n];
+        for (int i = 0; i < n; i++) {
+            r[i] = b[i] - ax[i];
+        }
+        double[] p = r.clone();
+        double rs = dot(r, r);
+        double limit = tolerance.doubleValue() * Math.max(Math.sqrt(dot(b, b)), 1);
+        residuals.add(Math.sqrt(rs));
+        while (Math.sqrt(rs) > limit) {
+            if (residuals.size() == maxIteration + 1) {
+                failureReason = "Max iterations reached";
+                return x;
+            }
+            double[] ap = a.multiply(p);
+            double pAp = dot(p, ap);
+            if (!(pAp > 0)) {
+                failureReason = "Matrix is not positive definite";
+                return x;
+            }
+            double alpha = rs / pAp;
+            for (int i = 0; i < n; i++) {
+                x[i] += alpha * p[i];
+                r[i] -= alpha * ap[i];
+            }
+            double rsNext = dot(r, r);
+            double beta = rsNext / rs;
+            for (int i = 0; i < n; i++) {
+                p[i] = r[i] + beta * p[i];
+            }
+            rs = rsNext;
+            residuals.add(Math.sqrt(rs));
+        }
+        return x;
+    }
+
+    private static double dot(double[] u, double[] v) {
+        double sum = 0;
+        for (int i = 0; i < u.length; i++) {
+            sum += u[i] * v[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Newton's method for the system F(x) = 0, one expression per equation over
+     * {@code variables}. Every step rebuilds the Jacobian by forward differences and
+     * solves J dx = -F with an LU factorization; with {@code parallel} the Jacobian
+     * columns are evaluated concurrently on the common ForkJoin pool. Stops when
+     * ||F(x)||inf <= tolerance. Each iterate goes to {@code xn}, its residual to
+     * {@code residuals}.
+     */
+    public double[] newtonSystem(Expression[] f, String[] variables, double[] x0, boolean parallel,
+                                 ArrayList<double[]> xn, ArrayList<Double> residuals) {
+        return systemIteration(f, variables, x0, parallel, false, xn, residuals);
+    }
+
+    /**
+     * Broyden's method: starts from a finite-difference Jacobian like {@link #newtonSystem}
+     * but afterwards only applies the rank-1 secant update
+     * J += (dF - J dx) dxᵀ / (dxᵀ dx), so each step costs one evaluation of F instead of
+     * n + 1. The Jacobian is rebuilt by differences if the updated one turns singular.
+     */
+    public double[] broyden(Expression[] f, String[] variables, double[] x0, boolean parallel,
+                            ArrayList<double[]> xn, ArrayList<Double> residuals) {
+        return systemIteration(f, variables, x0, parallel, true, xn, residuals);
+    }
+
+    private double[] systemIteration(Expression[] f, String[] variables, double[] x0, boolean parallel,
+                                     boolean broyden, ArrayList<double[]> xn, ArrayList<Double> residuals) {
+        int n = variables.length;
+        if (f.length != n || x0.length != n) {
+            throw new IllegalArgumentException("Need as many equations and starting values as variables");
+        }
+        double[] x = x0.clone();
+        double[] fx = evaluateSystem(f, variables, x);
+        xn.add(x);
+        residuals.add(normInf(fx));
+        double[][] jacobian = null;
+        while (residuals.get(residuals.size() - 1) > tolerance.doubleValue()) {
+            if (xn.size() == maxIteration + 1) {
+                failureReason = "Max iterations reached";
+                return x;
+            }
+            if (jacobian == null || !broyden) {
+                jacobian = jacobian(f, variables, x, fx, parallel);
+            }
+            LUDecomposition lu = new LUDecomposition(jacobian);
+            if (lu.isSingular() && broyden) {
+                jacobian = jacobian(f, variables, x, fx, parallel);
+                lu = new LUDecomposition(jacobian);
+            }
+            if (lu.isSingular()) {
+                failureReason = "Jacobian is singular";
+                return x;
+            }
+            double[] dx = lu.solve(fx);
+            double[] next = new double[n];
+            for (int i = 0; i < n; i++) {
+                dx[i] = -dx[i];
+                next[i] = x[i] + dx[i];
+            }
+            double[] fNext = evaluateSystem(f, variables, next);
+            double r = normInf(fNext);
+            xn.add(next);
+            residuals.add(r);
+            if (Double.isNaN(r) || Double.isInfinite(r)) {
+                failureReason = "Iteration diverged";
+                return next;
+            }
+            if (broyden) {
+                double dxdx = dot(dx, dx);
+                for (int i = 0; i < n; i++) {
+                    double[] row = jacobian[i];
+                    double c = (fNext[i] - fx[i] - dot(row, dx)) / dxdx;
+                    for (int j = 0; j < n; j++) {
+                        row[j] += c * dx[j];
+                    }
+                }
+            }
+            x = next;
+            fx = fNext;
+        }
+        return x;
+    }
+
+    private double[] evaluateSystem(Expression[] f, String[] variables, double[] x) {
+        double[] values = new double[f.length];
+        for (int i = 0; i < f.length; i++) {
+            values[i] = evaluateAt(f[i], variables, x);
+        }
+        evaluations += f.length;
+        evaluationRequests += f.length;
+        return values;
+    }
+
+    private static double evaluateAt(Expression f, String[] variables, double[] x) {
+        for (int j = 0; j < variables.length; j++) {
+            f.setVariable(variables[j], x[j]);
+        }
+        return f.evaluate();
+    }
+
+    // Forward differences, one column per variable; parallel columns work on their own copies of the expressions
+    private double[][] jacobian(Expression[] f, String[] variables, double[] x, double[] fx, boolean parallel) {
+        int n = x.length;
+        double[][] columns = new double[n][];
+        if (parallel) {
+            IntStream.range(0, n).parallel().forEach(j -> {
+                Expression[] copies = new Expression[f.length];
+                for (int i = 0; i < f.length; i++) {
+                    copies[i] = new Expression(f[i]);
+                }
+                columns[j] = jacobianColumn(copies, variables, x, fx, j);
+            });
+        } else {
+            for (int j = 0; j < n; j++) {
+                columns[j] = jacobianColumn(f, variables, x, fx, j);
+            }
+        }
+        evaluations += (long) n * f.length;
+        evaluationRequests += (long) n * f.length;
+        double[][] jacobian = new double[f.length][n];
+        for (int i = 0; i < f.length; i++) {
+            for (int j = 0; j < n; j++) {
+                jacobian[i][j] = columns[j][i];
+            }
+        }
+        return jacobian;
+    }
+
+    private static double[] jacobianColumn(Expression[] f, String[] variables, double[] x, double[] fx, int j) {
+        double[] shifted = x.clone();
+        // sqrt(machine epsilon) scaled to x_j balances truncation against cancellation
+        double h = 1.4901161193847656e-8 * Math.max(Math.abs(x[j]), 1);
+        shifted[j] = x[j] + h;
+        h = shifted[j] - x[j];
+        double[] column = new double[f.length];
+        for (int i = 0; i < f.length; i++) {
+            column[i] = (evaluateAt(f[i], variables, shifted) - fx[i]) / h;
+        }
+        return column;
+    }
+
+    /**
+     * Power iteration for the eigenvalue of largest magnitude. Each step multiplies by A,
+     * normalizes, and records the Rayleigh quotient λ = xᵀAx and the residual ||Ax - λx||₂
+     * in {@code lambdas} / {@code residuals}. Stops when the residual is within
+     * tolerance * max(|λ|, 1); returns the unit eigenvector estimate.
+     */
+    public double[] powerIteration(double[][] a, double[] x0, ArrayList<Double> lambdas, ArrayList<Double> residuals) {
+        int n = checkSquare(a, x0);
+        double[] x = normalize(x0);
+        double[] ax = multiply(a, x);
+        while (true) {
+            double lambda = dot(x, ax);
+            double residual = eigenResidual(ax, x, lambda);
+            lambdas.add(lambda);
+            residuals.add(residual);
+            if (residual <= tolerance.doubleValue() * Math.max(Math.abs(lambda), 1)) {
+                return x;
+            }
+            if (lambdas.size() == maxIteration) {
+                failureReason = "Max iterations reached";
+                return x;
+            }
+            double norm = Math.sqrt(dot(ax, ax));
+            if (norm == 0 || Double.isNaN(norm)) {
+                failureReason = norm == 0 ? "Iterate collapsed to zero" : "Iteration diverged";
+                return x;
+            }
+            for (int i = 0; i < n; i++) {
+                x[i] = ax[i] / norm;
+            }
+            ax = multiply(a, x);
+        }
+    }
+
+    /**
+     * Inverse iteration with Rayleigh quotient shifts: solve (A - μI)y = x, normalize, and
+     * move μ to the new Rayleigh quotient. The first solve uses {@code shift} (NaN starts
+     * from the Rayleigh quotient of x0), so it homes in on the eigenvalue nearest the
+     * shift; close to an eigenpair convergence is cubic for symmetric A. Records like
+     * {@link #powerIteration}.
+     */
+    public double[] rayleighQuotientIteration(double[][] a, double[] x0, double shift,
+                                              ArrayList<Double> lambdas, ArrayList<Double> residuals) {
+        int n = checkSquare(a, x0);
+        double scale = 0;
+        for (double[] row : a) {
+            for (double v : row) {
+                scale = Math.max(scale, Math.abs(v));
+            }
+        }
+        double[] x = normalize(x0);
+        double mu = Double.isNaN(shift) ? dot(x, multiply(a, x)) : shift;
+        double[][] shifted = new double[n][];
+        while (true) {
+            if (lambdas.size() == maxIteration) {
+                failureReason = "Max iterations reached";
+                return x;
+            }
+            for (int i = 0; i < n; i++) {
+                shifted[i] = a[i].clone();
+                shifted[i][i] -= mu;
+            }
+            LUDecomposition lu = new LUDecomposition(shifted);
+            if (lu.isSingular()) {
+                // μ is an eigenvalue to working precision; nudge it so the solve stays finite
+                for (int i = 0; i < n; i++) {
+                    shifted[i][i] -= 1e-10 * Math.max(scale, 1);
+                }
+                lu = new LUDecomposition(shifted);
+            }
+            double[] y = lu.solve(x);
+            double norm = Math.sqrt(dot(y, y));
+            if (!(norm > 0) || Double.isInfinite(norm)) {
+                failureReason = "Iteration diverged";
+                return x;
+            }
+            for (int i = 0; i < n; i++) {
+                x[i] = y[i] / norm;
+            }
+            double[] ax = multiply(a, x);
+            mu = dot(x, ax);
+            double residual = eigenResidual(ax, x, mu);
+            lambdas.add(mu);
+            residuals.add(residual);
+            if (residual <= tolerance.doubleValue() * Math.max(Math.abs(mu), 1)) {
+                return x;
+            }
+        }
+    }
+
+    /**
+     * All eigenvalues of a real square matrix: Householder reduction to upper Hessenberg
+     * form (O(n³) once), then Francis double-shift QR sweeps, each O(n²) on the Hessenberg
+     * form, deflating from the bottom whenever a subdiagonal entry becomes negligible.
+     * Complex conjugate pairs come out of 2x2 blocks into {@code re}/{@code im}.
+     * Every sweep adds the current estimate of the eigenvalue being deflated to
+     * {@code estimates} and the size of the subdiagonal entry that has to vanish to
+     * {@code subdiagonals}. Returns false (with a failure reason) if one eigenvalue takes
+     * more than 30 sweeps, as in EISPACK's hqr.
+     */
+    public boolean qrEigenvalues(double[][] a, double[] re, double[] im,
+                                 ArrayList<Double> estimates, ArrayList<Double> subdiagonals) {
+        int n = checkSquare(a, re);
+        double[][] h = new double[n][];
+        for (int i = 0; i < n; i++) {
+            h[i] = a[i].clone();
+        }
+        hessenberg(h);
+        double eps = Math.ulp(1.0);
+        double norm = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(i - 1, 0); j < n; j++) {
+                norm += Math.abs(h[i][j]);
+            }
+        }
+        int nn = n - 1;
+        double t = 0;
+        while (nn >= 0) {
+            int its = 0;
+            int l;
+            do {
+                for (l = nn; l > 0; l--) {
+                    double s = Math.abs(h[l - 1][l - 1]) + Math.abs(h[l][l]);
+                    if (s == 0) {
+                        s = norm;
+                    }
+                    if (Math.abs(h[l][l - 1]) <= eps * s) {
+                        h[l][l - 1] = 0;
+                        break;
+                    }
+                }
+                double x = h[nn][nn];
+                if (l == nn) {
+                    re[nn] = x + t;
+                    im[nn--] = 0;
+                } else {
+                    double y = h[nn - 1][nn - 1];
+                    double w = h[nn][nn - 1] * h[nn - 1][nn];
+                    if (l == nn - 1) {
+                        double p = 0.5 * (y - x);
+                        double q = p * p + w;
+                        double z = Math.sqrt(Math.abs(q));
+                        x += t;
+                        if (q >= 0) {
+                            z = p + Math.copySign(z, p);
+                            re[nn - 1] = re[nn] = x + z;
+                            if (z != 0) {
+                                re[nn] = x - w / z;
+                            }
+                            im[nn - 1] = im[nn] = 0;
+                        } else {
+                            re[nn - 1] = re[nn] = x + p;
+                            im[nn - 1] = z;
+                            im[nn] = -z;
+                        }
+                        nn -= 2;
+                    } else {
+                        if (its == 30) {
+                            failureReason = "Max iterations reached";
+                            return false;
+                        }
+                        estimates.add(x + t);
+                        subdiagonals.add(Math.abs(h[nn][nn - 1]));
+                        if (its == 10 || its == 20) {
+                            // Exceptional shift to break cycles
+                            t += x;
+                            for (int i = 0; i <= nn; i++) {
+                                h[i][i] -= x;
+                            }
+                            double s = Math.abs(h[nn][nn - 1]) + Math.abs(h[nn - 1][nn - 2]);
+                            y = x = 0.75 * s;
+                            w = -0.4375 * s * s;
+                        }
+                        its++;
+                        francisSweep(h, l, nn, x, y, w, eps);
+                    }
+                }
+            } while (l + 1 < nn);
+        }
+        return true;
+    }
+
+    // One implicit double-shift QR step on the active block h[l..nn][l..nn]
+    private static void francisSweep(double[][] h, int l, int nn, double x, double y, double w, double eps) {
+        int m;
+        double p = 0, q = 0, r = 0, z;
+        for (m = nn - 2; m >= l; m--) {
+            z = h[m][m];
+            r = x - z;
+            double s = y - z;
+            p = (r * s - w) / h[m + 1][m] + h[m][m + 1];
+            q = h[m + 1][m + 1] - z - r - s;
+            r = h[m + 2][m + 1];
+            s = Math.abs(p) + Math.abs(q) + Math.abs(r);
+            p /= s;
+            q /= s;
+            r /= s;
+            if (m == l) {
+                break;
+            }
+            double u = Math.abs(h[m][m - 1]) * (Math.abs(q) + Math.abs(r));
+            double v = Math.abs(p) * (Math.abs(h[m - 1][m - 1]) + Math.abs(z) + Math.abs(h[m + 1][m + 1]));
+            if (u <= eps * v) {
+                break;
+            }
+        }
+        for (int i = m; i < nn - 1; i++) {
+            h[i + 2][i] = 0;
+            if (i != m) {
+                h[i + 2][i - 1] = 0;
+            }
+        }
+        for (int k = m; k < nn; k++) {
+            if (k != m) {
+                p = h[k][k - 1];
+                q = h[k + 1][k - 1];
+                r = k + 1 != nn ? h[k + 2][k - 1] : 0;
+                x = Math.abs(p) + Math.abs(q) + Math.abs(r);
+                if (x != 0) {
+                    p /= x;
+                    q /= x;
+                    r /= x;
+                }
+            }
+            double s = Math.copySign(Math.sqrt(p * p + q * q + r * r), p);
+            if (s == 0) {
+                continue;
+            }
+            if (k == m) {
+                if (l != m) {
+                    h[k][k - 1] = -h[k][k - 1];
+                }
+            } else {
+                h[k][k - 1] = -s * x;
+            }
+            p += s;
+            x = p / s;
+            y = q / s;
+            z = r / s;
+            q /= p;
+            r /= p;
+            double[] hk = h[k];
+            double[] hk1 = h[k + 1];
+            double[] hk2 = k + 1 != nn ? h[k + 2] : null;
+            for (int j = k; j <= nn; j++) {
+                double sum = hk[j] + q * hk1[j];
+                if (hk2 != null) {
+                    sum += r * hk2[j];
+                    hk2[j] -= sum * z;
+                }
+                hk1[j] -= sum * y;
+                hk[j] -= sum * x;
+            }
+            int last = Math.min(nn, k + 3);
+            for (int i = l; i <= last; i++) {
+                double[] hi = h[i];
+                double sum = x * hi[k] + y * hi[k + 1];
+                if (hk2 != null) {
+                    sum += z * hi[k + 2];
+                    hi[k + 2] -= sum * r;
+                }
+                hi[k + 1] -= sum * q;
+                hi[k] -= sum;
+            }
+        }
+    }
+
+    // Householder similarity reduction to upper Hessenberg form, in place
+    private static void hessenberg(double[][] h) {
+        int n = h.length;
+        double[] v = new double[n];
+        double[] f = new double[n];
+        for (int m = 1; m < n - 1; m++) {
+            double scale = 0;
+            for (int i = m; i < n; i++) {
+                scale += Math.abs(h[i][m - 1]);
+            }
+            if (scale == 0) {
+                continue;
+            }
+            double sigma = 0;
+            for (int i = m; i < n; i++) {
+                v[i] = h[i][m - 1] / scale;
+                sigma += v[i] * v[i];
+            }
+            double g = v[m] > 0 ? -Math.sqrt(sigma) : Math.sqrt(sigma);
+            double beta = sigma - v[m] * g;
+            v[m] -= g;
+            // H = (I - vvᵀ/β) H: rows m..n-1, accumulated row-wise
+            Arrays.fill(f, m - 1, n, 0);
+            for (int i = m; i < n; i++) {
+                double vi = v[i];
+                double[] hi = h[i];
+                for (int j = m - 1; j < n; j++) {
+                    f[j] += vi * hi[j];
+                }
+            }
+            for (int i = m; i < n; i++) {
+                double c = v[i] / beta;
+                double[] hi = h[i];
+                for (int j = m - 1; j < n; j++) {
+                    hi[j] -= c * f[j];
+                }
+            }
+            // H = H (I - vvᵀ/β): columns m..n-1 of every row
+            for (int i = 0; i < n; i++) {
+                double[] hi = h[i];
+                double sum = 0;
+                for (int j = m; j < n; j++) {
+                    sum += v[j] * hi[j];
+                }
+                sum /= beta;
+                for (int j = m; j < n; j++) {
+                    hi[j] -= sum * v[j];
+                }
+            }
+            h[m][m - 1] = scale * g;
+            for (int i = m + 1; i < n; i++) {
+                h[i][m - 1] = 0;
+            }
+        }
+    }
+
+    private static int checkSquare(double[][] a, double[] x) {
+        int n = a.length;
+        if (n == 0 || x.length != n) {
+            throw new IllegalArgumentException("Matrix and vector sizes do not match");
+        }
+        for (double[] row : a) {
+            if (row.length != n) {
+                throw new IllegalArgumentException("Matrix must be square");
+            }
+        }
+        return n;
+    }
+
+    private static double[] multiply(double[][] a, double[] x) {
+        double[] y = new double[a.length];
+        for (int i = 0; i < a.length; i++) {
+            y[i] = dot(a[i], x);
+        }
+        return y;
+    }
+
+    private static double[] normalize(double[] x) {
+        double norm = Math.sqrt(dot(x, x));
+        if (norm == 0) {
+            throw new IllegalArgumentException("Starting vector must be nonzero");
+        }
+        double[] unit = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            unit[i] = x[i] / norm;
+        }
+        return unit;
+    }
+
+    private static double eigenResidual(double[] ax, double[] x, double lambda) {
+        double sum = 0;
+        for (int i = 0; i < x.length; i++) {
+            double d = ax[i] - lambda * x[i];
+            sum += d * d;
+        }
+        return Math.sqrt(sum);
+    }
+
+    /**
+     * @return true if every row's diagonal entry outweighs the rest of the row, which
+     *         guarantees Jacobi and Gauss-Seidel converge
+     */
+    public static boolean isDiagonallyDominant(double[][] a) {
+        for (int i = 0; i < a.length; i++) {
+            double off = 0;
+            for (int j = 0; j < a[i].length; j++) {
+                if (j != i) {
+                    off += Math.abs(a[i][j]);
+                }
+            }
+            if (Math.abs(a[i][i]) < off) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds lhs - (rhs) over the given variables, so the equation holds where the
+     * expression is zero. An equation without '=' is taken as "expr = 0".
+     */
+    public static Expression parseSystemEquation(String equation, String... variables) {
+        int eq = equation.indexOf('=');
+        String expression = eq < 0 ? equation
+                : "(" + equation.substring(0, eq).trim() + ") - (" + equation.substring(eq + 1).trim() + ")";
+        return new ExpressionBuilder(expression).variables(variables).build();
+    }
+
     public Expression parseEquation(String equation){
         String[] parsedEquation = new String[2];
         parsedEquation[0] = equation.substring(0, equation.indexOf('=')).trim();
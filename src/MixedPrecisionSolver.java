@@ -0,0 +1,306 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Solves Ax = b by factorizing A in {@code float} and recovering double accuracy with
+ * iterative refinement: r = b - Ax in double, solve Ad = r with the float factors,
+ * x += d. The O(n³) factorization moves half the bytes of a double LU; each refinement
+ * round is only O(n²).
+ *
+ * Refinement converges while cond(A) is well below 1/eps_float (about 1e7). After each
+ * round the normwise backward error ||b - Ax|| / (||A|| ||x|| + ||b||) (infinity norms)
+ * is measured; once it reaches {@code sqrt(n) * eps_double} (the LAPACK dsgesv test) the
+ * solve is done. If a round fails to at least halve it, or the float factorization is
+ * singular, the system is re-solved with a double {@link LUDecomposition}, which throws
+ * IllegalArgumentException when A is singular in double as well.
+ */
+public final class MixedPrecisionSolver {
+    public static final int DEFAULT_MAX_REFINEMENTS = 10;
+
+    private static final double EPS = Math.ulp(1.0) / 2;
+
+    private MixedPrecisionSolver() {
+    }
+
+    public static Solution solve(double[][] a, double[] b, int maxRefinements) {
+        int n = a.length;
+        if (n == 0 || b.length != n) {
+            throw new IllegalArgumentException("Matrix and right-hand side sizes do not match");
+        }
+        for (double[] row : a) {
+            if (row.length != n) {
+                throw new IllegalArgumentException("Coefficient matrix must be square");
+            }
+        }
+        double normA = normInf(a);
+        double normB = 0;
+        for (double v : b) {
+            normB = Math.max(normB, Math.abs(v));
+        }
+        double target = Math.sqrt(n) * EPS;
+        List<Double> errors = new ArrayList<>();
+
+        FloatLU lu = new FloatLU(a);
+        double condition = lu.singular ? Double.POSITIVE_INFINITY : norm1(a) * lu.inverseNorm1();
+        int refinements = 0;
+        if (!lu.singular) {
+            double[] x = lu.solve(b);
+            double[] r = new double[n];
+            double previous = Double.POSITIVE_INFINITY;
+            while (true) {
+                double eta = backwardError(a, b, x, r, normA, normB);
+                errors.add(eta);
+                if (eta <= target) {
+                    return new Solution(x, eta, condition, refinements, false, errors);
+                }
+                if (!(eta <= previous / 2) || refinements >= maxRefinements) {
+                    break;
+                }
+                previous = eta;
+                double[] d = lu.solve(r);
+                for (int i = 0; i < n; i++) {
+                    x[i] += d[i];
+                }
+                refinements++;
+            }
+        }
+
+        // Refinement stalled (A too ill-conditioned for float factors) or float LU broke down
+        double[] x = new LUDecomposition(a).solve(b);
+        double eta = backwardError(a, b, x, new double[n], normA, normB);
+        errors.add(eta);
+        return new Solution(x, eta, condition, refinements, true, errors);
+    }
+
+    // Fills r = b - Ax and returns the normwise backward error
+    private static double backwardError(double[][] a, double[] b, double[] x, double[] r, double normA, double normB) {
+        double normR = 0;
+        double normX = 0;
+        for (int i = 0; i < x.length; i++) {
+            double[] row = a[i];
+            double sum = b[i];
+            for (int j = 0; j < x.length; j++) {
+                sum -= row[j] * x[j];
+            }
+            r[i] = sum;
+            normR = Math.max(normR, Math.abs(sum));
+            normX = Math.max(normX, Math.abs(x[i]));
+        }
+        double denominator = normA * normX + normB;
+        return denominator == 0 ? 0 : normR / denominator;
+    }
+
+    private static double normInf(double[][] a) {
+        double max = 0;
+        for (double[] row : a) {
+            double sum = 0;
+            for (double v : row) {
+                sum += Math.abs(v);
+            }
+            max = Math.max(max, sum);
+        }
+        return max;
+    }
+
+    private static double norm1(double[][] a) {
+        double[] sums = new double[a.length];
+        for (double[] row : a) {
+            for (int j = 0; j < row.length; j++) {
+                sums[j] += Math.abs(row[j]);
+            }
+        }
+        double max = 0;
+        for (double s : sums) {
+            max = Math.max(max, s);
+        }
+        return max;
+    }
+
+    /** Single-precision PA = LU with partial pivoting; solves accumulate in float too. */
+    private static final class FloatLU {
+        final int n;
+        final float[][] lu;
+        final int[] pivots;
+        final boolean singular;
+
+        FloatLU(double[][] a) {
+            n = a.length;
+            lu = new float[n][n];
+            pivots = new int[n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    lu[i][j] = (float) a[i][j];
+                }
+                pivots[i] = i;
+            }
+            boolean zeroPivot = false;
+            for (int k = 0; k < n; k++) {
+                int p = k;
+                for (int i = k + 1; i < n; i++) {
+                    if (Math.abs(lu[i][k]) > Math.abs(lu[p][k])) {
+                        p = i;
+                    }
+                }
+                float[] row = lu[p];
+                lu[p] = lu[k];
+                lu[k] = row;
+                int t = pivots[p];
+                pivots[p] = pivots[k];
+                pivots[k] = t;
+                float pivot = row[k];
+                if (pivot == 0 || !Float.isFinite(pivot)) {
+                    zeroPivot = true;
+                    break;
+                }
+                for (int i = k + 1; i < n; i++) {
+                    float[] rowI = lu[i];
+                    float factor = rowI[k] / pivot;
+                    rowI[k] = factor;
+                    if (factor != 0) {
+                        for (int j = k + 1; j < n; j++) {
+                            rowI[j] -= factor * row[j];
+                        }
+                    }
+                }
+            }
+            singular = zeroPivot;
+        }
+
+        double[] solve(double[] b) {
+            float[] y = new float[n];
+            for (int i = 0; i < n; i++) {
+                float[] row = lu[i];
+                float sum = (float) b[pivots[i]];
+                for (int k = 0; k < i; k++) {
+                    sum -= row[k] * y[k];
+                }
+                y[i] = sum;
+            }
+            double[] x = new double[n];
+            for (int i = n - 1; i >= 0; i--) {
+                float[] row = lu[i];
+                float sum = y[i];
+                for (int k = i + 1; k < n; k++) {
+                    sum -= row[k] * y[k];
+                }
+                y[i] = sum / row[i];
+                x[i] = y[i];
+            }
+            return x;
+        }
+
+        // Solves Aᵀy = c, i.e. Uᵀ Lᵀ P y = c
+        double[] solveTranspose(double[] c) {
+            float[] w = new float[n];
+            for (int i = 0; i < n; i++) {
+                w[i] = (float) c[i];
+            }
+            for (int i = 0; i < n; i++) {
+                w[i] /= lu[i][i];
+                float wi = w[i];
+                float[] row = lu[i];
+                for (int k = i + 1; k < n; k++) {
+                    w[k] -= row[k] * wi;
+                }
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                float wi = w[i];
+                float[] row = lu[i];
+                for (int k = 0; k < i; k++) {
+                    w[k] -= row[k] * wi;
+                }
+            }
+            double[] y = new double[n];
+            for (int i = 0; i < n; i++) {
+                y[pivots[i]] = w[i];
+            }
+            return y;
+        }
+
+        // Hager's estimate of ||A⁻¹||₁: a few solves with A and Aᵀ instead of forming A⁻¹
+        double inverseNorm1() {
+            double[] x = new double[n];
+            Arrays.fill(x, 1.0 / n);
+            double estimate = 0;
+            for (int iteration = 0; iteration < 5; iteration++) {
+                double[] y = solve(x);
+                estimate = 0;
+                double[] s = new double[n];
+                for (int i = 0; i < n; i++) {
+                    estimate += Math.abs(y[i]);
+                    s[i] = y[i] >= 0 ? 1 : -1;
+                }
+                double[] z = solveTranspose(s);
+                int j = 0;
+                double zx = 0;
+                for (int i = 0; i < n; i++) {
+                    zx += z[i] * x[i];
+                    if (Math.abs(z[i]) > Math.abs(z[j])) {
+                        j = i;
+                    }
+                }
+                if (Math.abs(z[j]) <= zx) {
+                    break;
+                }
+                Arrays.fill(x, 0);
+                x[j] = 1;
+            }
+            return estimate;
+        }
+    }
+
+    public static final class Solution {
+        private final double[] x;
+        private final double backwardError;
+        private final double conditionEstimate;
+        private final int refinements;
+        private final boolean doubleFallback;
+        private final List<Double> backwardErrors;
+
+        Solution(double[] x, double backwardError, double conditionEstimate, int refinements,
+                 boolean doubleFallback, List<Double> backwardErrors) {
+            this.x = x;
+            this.backwardError = backwardError;
+            this.conditionEstimate = conditionEstimate;
+            this.refinements = refinements;
+            this.doubleFallback = doubleFallback;
+            this.backwardErrors = Collections.unmodifiableList(new ArrayList<>(backwardErrors));
+        }
+
+        public double[] getSolution() {
+            return x.clone();
+        }
+
+        /** Normwise backward error of the returned solution. */
+        public double getBackwardError() {
+            return backwardError;
+        }
+
+        /** Estimated 1-norm condition number of A; infinite when the float factorization was singular. */
+        public double getConditionEstimate() {
+            return conditionEstimate;
+        }
+
+        /** Refinement rounds run on the float factors, not counting a double fallback solve. */
+        public int getRefinements() {
+            return refinements;
+        }
+
+        /** True when refinement stalled and the answer came from a double factorization. */
+        public boolean usedDoubleFallback() {
+            return doubleFallback;
+        }
+
+        /**
+         * Backward error after the initial solve and after each refinement round, followed by
+         * that of the double solve when {@link #usedDoubleFallback()}.
+         */
+        public List<Double> getBackwardErrors() {
+            return backwardErrors;
+        }
+    }
+}
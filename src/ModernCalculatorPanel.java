@@ -12,6 +12,7 @@ public class ModernCalculatorPanel extends JPanel {
     private JTextField initialGuessField1;
     private JTextField initialGuessField2;
     private JTextField toleranceField;
+    private JComboBox<String> derivativeBox;
     private JTextArea historyArea;
     private JLabel answerValue;
     private JPanel stepPanel;
@@ -27,6 +28,8 @@ public class ModernCalculatorPanel extends JPanel {
     private JLabel statusLabel;
     private JProgressBar progressBar;
     private JPanel progressPanel; 
+    private JButton exportButton;
+    private CalculatorBackend.Result lastResult;
     
 
     private final Color backgroundColor = new Color(18, 23, 30);
@@ -60,6 +63,8 @@ public class ModernCalculatorPanel extends JPanel {
             methodType = "Fixed-Point";
         } else if (methodDescription.contains("False Position method")) {
             methodType = "False Position";
+        } else if (methodDescription.contains("Auto mode")) {
+            methodType = "Auto";
         } else {
             methodType = "Unknown";
         }
@@ -187,6 +192,32 @@ public class ModernCalculatorPanel extends JPanel {
         fieldsPanel.add(guessesPanel);
         fieldsPanel.add(Box.createVerticalStrut(15));
         
+        // Derivative reuse (Newton-Raphson only)
+        if (methodType.equals("Newton-Raphson")) {
+            JPanel derivativePanel = new JPanel(new BorderLayout());
+            derivativePanel.setOpaque(false);
+            JLabel derivativeLabel = new JLabel("Derivative");
+            derivativeLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
+            derivativeLabel.setForeground(textColor);
+            derivativePanel.add(derivativeLabel, BorderLayout.NORTH);
+            
+            derivativeBox = new JComboBox<>(new String[] {
+                "Every step", "Chord (frozen at x₀)", "Shamanskii (adaptive refresh)"
+            });
+            derivativeBox.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+            derivativeBox.setBackground(inputFieldColor);
+            derivativeBox.setForeground(textColor);
+            derivativePanel.add(derivativeBox, BorderLayout.CENTER);
+            
+            JLabel derivativeHint = new JLabel("Reusing f'(x) saves two evaluations of f per step");
+            derivativeHint.setFont(new Font("Segoe UI", Font.ITALIC, 12));
+            derivativeHint.setForeground(textSecondaryColor);
+            derivativePanel.add(derivativeHint, BorderLayout.SOUTH);
+            
+            fieldsPanel.add(derivativePanel);
+            fieldsPanel.add(Box.createVerticalStrut(15));
+        }
+        
         // Tolerance field
         JPanel tolerancePanel = new JPanel(new BorderLayout());
         tolerancePanel.setOpaque(false);
@@ -326,6 +357,25 @@ public class ModernCalculatorPanel extends JPanel {
         
         answerPanel.add(titlePanel, BorderLayout.NORTH);
         answerPanel.add(answerValue, BorderLayout.CENTER);
+
+        // Export the full iteration trace (CSV or binary) for offline analysis
+        exportButton = new JButton("Export");
+        exportButton.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        exportButton.setForeground(textColor);
+        exportButton.setBackground(inputFieldColor);
+        exportButton.setFocusPainted(false);
+        exportButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        exportButton.setToolTipText("Save the iteration steps as CSV or binary trace");
+        exportButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                exportTrace();
+            }
+        });
+        JPanel exportPanel = new JPanel(new GridBagLayout());
+        exportPanel.setOpaque(false);
+        exportPanel.add(exportButton);
+        answerPanel.add(exportPanel, BorderLayout.EAST);
         
         resultHeader.add(answerPanel, BorderLayout.CENTER);
         
@@ -513,6 +563,8 @@ public class ModernCalculatorPanel extends JPanel {
         // Start animation
         animationTimer.start();
         
+        final String solveMethod = getSolveMethod();
+        
         // Run calculation in separate thread
         SwingWorker<CalculatorBackend.Result, Void> worker = new SwingWorker<CalculatorBackend.Result, Void>() {
             private String function;
@@ -585,27 +637,8 @@ public class ModernCalculatorPanel extends JPanel {
                     // Simulate longer calculation for demo purposes
                     Thread.sleep(1500);
                     
-                    // Call appropriate calculation method
-                    CalculatorBackend.Result result = null;
-                    
-                    switch (methodType) {
-                        case "Newton-Raphson":
-                            result = CalculatorBackend.newtonRaphson(function, guess1Value, toleranceValue, MAX_ITERATIONS);
-                            break;
-                        case "Secant":
-                            result = CalculatorBackend.secant(function, guess1Value, guess2Value, toleranceValue, MAX_ITERATIONS);
-                            break;
-                        case "Bisection":
-                            result = CalculatorBackend.bisection(function, guess1Value, guess2Value, toleranceValue, MAX_ITERATIONS);
-                            break;                        case "Fixed-Point":
-                            result = CalculatorBackend.fixedPoint(function, guess1Value, toleranceValue, MAX_ITERATIONS);
-                            break;
-                        case "False Position":
-                            result = CalculatorBackend.falsePosition(function, guess1Value, guess2Value, toleranceValue, MAX_ITERATIONS);
-                            break;
-                    }
-                    
-                    return result;
+                    // Call appropriate calculation method (repeat runs are served from the result cache)
+                    return CalculatorBackend.solve(solveMethod, function, guess1Value, guess2Value, toleranceValue, MAX_ITERATIONS);
                     
                 } catch (Exception e) {
                     validationError = e;
@@ -657,7 +690,60 @@ public class ModernCalculatorPanel extends JPanel {
         
         worker.execute();
     }
+    private void exportTrace() {
+        final CalculatorBackend.Result result = lastResult;
+        if (result == null) {
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Export Iteration Steps");
+        javax.swing.filechooser.FileNameExtensionFilter csvFilter =
+            new javax.swing.filechooser.FileNameExtensionFilter("CSV (*.csv)", "csv");
+        javax.swing.filechooser.FileNameExtensionFilter binaryFilter =
+            new javax.swing.filechooser.FileNameExtensionFilter("Binary trace (*.ictr)", "ictr");
+        chooser.addChoosableFileFilter(csvFilter);
+        chooser.addChoosableFileFilter(binaryFilter);
+        chooser.setFileFilter(csvFilter);
+        chooser.setSelectedFile(new java.io.File(methodType.toLowerCase().replace(' ', '-') + "-steps.csv"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        java.io.File selected = chooser.getSelectedFile();
+        String name = selected.getName().toLowerCase();
+        if (!name.endsWith(".csv") && !name.endsWith(".ictr")) {
+            selected = new java.io.File(selected.getPath() + (chooser.getFileFilter() == binaryFilter ? ".ictr" : ".csv"));
+        }
+        final java.io.File target = selected;
+        exportButton.setEnabled(false);
+        // Large traces are written off the EDT
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws Exception {
+                CalculatorBackend.exportTrace(result, target.toPath());
+                return null;
+            }
+            
+            @Override
+            protected void done() {
+                exportButton.setEnabled(true);
+                try {
+                    get();
+                    JOptionPane.showMessageDialog(ModernCalculatorPanel.this,
+                        "Exported " + result.getSteps().size() + " steps to " + target.getName(),
+                        "Export Complete", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(ModernCalculatorPanel.this,
+                        "Export failed: " + cause.getMessage(), "Export Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+    
       private void updateResultsDisplay(CalculatorBackend.Result result, String function) {
+        lastResult = result;
+        exportButton.setEnabled(!result.getSteps().isEmpty());
+        
         // Create a format based on tolerance
         double tolerance = getToleranceValue();
         DecimalFormat df = createDecimalFormatFromTolerance(tolerance);
@@ -724,6 +810,16 @@ public class ModernCalculatorPanel extends JPanel {
                 case "Newton-Raphson":
                     summary.append("Newton-Raphson uses the formula: xₙ₊₁ = xₙ - f(xₙ)/f'(xₙ)\n");
                     summary.append("The derivative was approximated using the central difference method.\n");
+                    if (!steps.isEmpty() && steps.get(0).getDerivativeRefreshed() != null) {
+                        int refreshes = 0;
+                        for (CalculatorBackend.IterationStep step : steps) {
+                            if (step.getDerivativeRefreshed()) {
+                                refreshes++;
+                            }
+                        }
+                        summary.append("It was refreshed at ").append(refreshes).append(" of ").append(steps.size())
+                               .append(" steps and reused in between.\n");
+                    }
                     break;
                 case "Secant":
                     summary.append("Secant method uses the formula: xₙ₊₁ = xₙ - f(xₙ)·(xₙ - xₙ₋₁)/(f(xₙ) - f(xₙ₋₁))\n");
@@ -741,11 +837,20 @@ public class ModernCalculatorPanel extends JPanel {
                     summary.append("False Position uses linear interpolation to find better approximations.\n");
                     summary.append("It often converges faster than bisection while maintaining its reliability.\n");
                     break;
+                case "Auto":
+                    // The race report is the head of the history, up to the first blank line
+                    String history = result.getHistory();
+                    int end = history.indexOf("\n\n");
+                    summary.append(end < 0 ? history : history.substring(0, end + 1));
+                    break;
             }
         } else {
             summary.append("\u2717 Method failed to converge\n\n");
             
-            if (steps.size() >= MAX_ITERATIONS) {
+            if (result.getFailureReason() != null && !result.getFailureReason().equals("Max iterations reached")) {
+                summary.append("\u2717 ").append(result.getFailureReason())
+                       .append(" (after ").append(steps.size()).append(" iterations)\n");
+            } else if (steps.size() >= MAX_ITERATIONS) {
                 summary.append("\u2717 Reached maximum number of iterations (").append(MAX_ITERATIONS).append(")\n");
             } else if (methodType.equals("Bisection") || methodType.equals("False Position")) {
                 summary.append("\u2717 Function may not have a sign change in the given interval\n");
@@ -774,7 +879,8 @@ public class ModernCalculatorPanel extends JPanel {
                     df.format(step.getX()),
                     df.format(step.getFx()),
                     df.format(step.getFpx()),
-                    df.format(step.getError())
+                    df.format(step.getError()),
+                    Boolean.FALSE.equals(step.getDerivativeRefreshed()) ? "reused" : "refreshed"
                 };
             case "Secant":
                 if (step.getIteration() == 0) {
@@ -851,7 +957,7 @@ public class ModernCalculatorPanel extends JPanel {
     
     private String[] getTableColumnNames() {
         switch (methodType) {            case "Newton-Raphson":
-                return new String[]{"Iter.", "xₙ", "f(xₙ)", "f'(xₙ)", "Error"};
+                return new String[]{"Iter.", "xₙ", "f(xₙ)", "f'(xₙ)", "Error", "f' update"};
             case "Secant":
                 return new String[]{"Iteration", "x_n-1", "x_n", "f(x_n-1)", "f(x_n)", "Error"};            case "Bisection":
                 return new String[]{"Iteration", "a", "b", "c", "f(c)", "Error"};
@@ -864,6 +970,24 @@ public class ModernCalculatorPanel extends JPanel {
         }
     }
     
+    /**
+     * Method name passed to the backend; the Newton-Raphson panel maps its derivative
+     * option onto the chord and Shamanskii variants.
+     */
+    private String getSolveMethod() {
+        if (derivativeBox != null) {
+            switch (derivativeBox.getSelectedIndex()) {
+                case 1:
+                    return "chord-newton";
+                case 2:
+                    return "shamanskii-newton";
+                default:
+                    break;
+            }
+        }
+        return methodType;
+    }
+    
     private String getFunctionPlaceholder() {
         switch (methodType) {
             case "Fixed-Point":
@@ -888,6 +1012,8 @@ public class ModernCalculatorPanel extends JPanel {
                 return "Left Endpoint (a)";
             case "Secant":
                 return "First Guess (x₀)";
+            case "Auto":
+                return "Initial Guess / Left Endpoint (a)";
             default:
                 return "Initial Guess";
         }
@@ -899,6 +1025,8 @@ public class ModernCalculatorPanel extends JPanel {
                 return "Right Endpoint (b)";
             case "Secant":
                 return "Second Guess (x₁)";
+            case "Auto":
+                return "Second Guess / Right Endpoint (b)";
             default:
                 return "Initial Guess";
         }
@@ -932,6 +1060,8 @@ public class ModernCalculatorPanel extends JPanel {
                 return "Left endpoint of interval containing the root";
             case "Secant":
                 return "First point for the secant line approximation";
+            case "Auto":
+                return "Start of the open methods and left end of the bracket";
             default:
                 return "Starting point for iteration";
         }
@@ -943,6 +1073,8 @@ public class ModernCalculatorPanel extends JPanel {
                 return "Right endpoint of interval containing the root";
             case "Secant":
                 return "Second point for the secant line approximation";
+            case "Auto":
+                return "Second secant point and right end of the bracket";
             default:
                 return "Starting point for iteration";
         }
@@ -1019,19 +1151,8 @@ public class ModernCalculatorPanel extends JPanel {
         if (tableModel != null) {
             tableModel.setRowCount(0);
             
-            // Update column headers based on method type
-            if (methodType.equals("Bisection") || methodType.equals("False Position")) {
-                String[] columnNames = {"Iter.", "a", "b", "c", "f(c)", "Error"};
-                tableModel.setColumnIdentifiers(columnNames);            } else if (methodType.equals("Secant")) {
-                String[] columnNames = {"Iter.", "x₀", "x₁", "x₂", "f(x₂)", "Error"};
-                tableModel.setColumnIdentifiers(columnNames);
-            } else if (methodType.equals("Newton-Raphson")) {
-                String[] columnNames = {"Iter.", "xₙ", "f(xₙ)", "f'(xₙ)", "Error"};
-                tableModel.setColumnIdentifiers(columnNames);
-            } else if (methodType.equals("Fixed-Point")) {
-                String[] columnNames = {"Iter.", "xₙ", "g(xₙ)", "Error"};
-                tableModel.setColumnIdentifiers(columnNames);
-            }
+            // Same headers the table was built with, so they match createTableRow
+            tableModel.setColumnIdentifiers(getTableColumnNames());
         }
         
         // Reset results
@@ -1043,7 +1164,8 @@ public class ModernCalculatorPanel extends JPanel {
         if (initialGuessField2 != null) {
             boolean needsTwoGuesses = methodType.equals("Bisection") || 
                                      methodType.equals("Secant") || 
-                                     methodType.equals("False Position");
+                                     methodType.equals("False Position") ||
+                                     methodType.equals("Auto");
             
             initialGuessField2.getParent().setVisible(needsTwoGuesses);
         }
@@ -0,0 +1,186 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Stack;
+import java.util.stream.IntStream;
+import net.objecthunter.exp4j.Expression;
+import net.objecthunter.exp4j.ExpressionBuilder;
+import java.math.BigDecimal;
+
+/**
+ * Solves f(x; p) = 0 for evenly spaced values of a parameter p. The grid is cut into
+ * contiguous chunks that run in parallel; each chunk parses the expression once and
+ * walks its points in order, seeding every solve from the roots already found
+ * (natural continuation), so away from turning points each solve starts next to its
+ * answer:
+ * <ul>
+ *   <li>Newton-Raphson and Fixed-Point start from the previous root;</li>
+ *   <li>Secant starts from the previous two roots;</li>
+ *   <li>Bisection and False Position search outward from the previous root for a small
+ *       bracket, falling back to the given interval.</li>
+ * </ul>
+ * The first point of every chunk, and any point after a failed one, starts cold from the
+ * given guesses.
+ */
+public final class ParameterSweep {
+    /** Fewest points per chunk; longer chunks keep more of the warm-start benefit. */
+    public static final int MIN_CHUNK = 64;
+
+    private final String method;
+    private final String function;
+    private final String parameter;
+    private final double guess1;
+    private final double guess2;
+    private final double tolerance;
+    private final int maxIterations;
+    private final boolean warmStart;
+
+    public ParameterSweep(String method, String function, String parameter, double guess1, double guess2,
+                          double tolerance, int maxIterations, boolean warmStart) {
+        this.method = CalculatorBackend.normalizeMethod(method);
+        this.function = function;
+        this.parameter = parameter;
+        this.guess1 = guess1;
+        this.guess2 = guess2;
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.warmStart = warmStart;
+        switch (this.method) {
+            case "newton-raphson":
+            case "secant":
+            case "bisection":
+            case "fixed-point":
+            case "false-position":
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown method: " + method);
+        }
+        if (parameter == null || parameter.isEmpty() || parameter.equals("x")) {
+            throw new IllegalArgumentException("Parameter name must be set and differ from x");
+        }
+        // Fail fast on a bad expression rather than once per chunk
+        build();
+    }
+
+    public CalculatorBackend.SweepResult run(double from, double to, int points) {
+        if (points < 1) {
+            throw new IllegalArgumentException("A sweep needs at least one point");
+        }
+        double[] params = new double[points];
+        double[] roots = new double[points];
+        int[] iterations = new int[points];
+        long[] evaluations = new long[points];
+        boolean[] converged = new boolean[points];
+        for (int i = 0; i < points; i++) {
+            params[i] = points == 1 ? from : from + (to - from) * i / (points - 1);
+        }
+        int chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, points / MIN_CHUNK));
+        int chunkSize = (points + chunks - 1) / chunks;
+        IntStream range = IntStream.range(0, chunks);
+        (chunks > 1 ? range.parallel() : range).forEach(c -> {
+            Expression expr = build();
+            int end = Math.min(points, (c + 1) * chunkSize);
+            for (int i = c * chunkSize; i < end; i++) {
+                expr.setVariable(parameter, params[i]);
+                boolean warm = warmStart && i > c * chunkSize && converged[i - 1];
+                double previous = warm ? roots[i - 1] : Double.NaN;
+                double beforePrevious = warm && i - 1 > c * chunkSize && converged[i - 2] ? roots[i - 2] : Double.NaN;
+                Methods m = new Methods(maxIterations);
+                m.setTolerance(BigDecimal.valueOf(tolerance));
+                solvePoint(m, expr, previous, beforePrevious, i, roots, iterations, converged);
+                evaluations[i] = m.getEvaluationCount();
+            }
+        });
+        return new CalculatorBackend.SweepResult(method, function, parameter, params, roots, iterations, evaluations,
+                converged, chunks, warmStart);
+    }
+
+    private Expression build() {
+        return new ExpressionBuilder(function).variables("x", parameter).build();
+    }
+
+    private void solvePoint(Methods m, Expression expr, double previous, double beforePrevious, int i,
+                            double[] roots, int[] iterations, boolean[] converged) {
+        double root;
+        int steps;
+        try {
+            switch (method) {
+                case "newton-raphson": {
+                    Stack<Double> xn = m.newtonRaphson(expr, Double.isNaN(previous) ? guess1 : previous, new Stack<>());
+                    root = xn.peek();
+                    steps = xn.size() - 1;
+                    break;
+                }
+                case "fixed-point": {
+                    LinkedList<Double> xn = (LinkedList<Double>) m.fixedPoint(expr, Double.isNaN(previous) ? guess1 : previous,
+                            new LinkedList<>());
+                    root = xn.getLast();
+                    steps = xn.size() - 1;
+                    break;
+                }
+                case "secant": {
+                    double x0 = guess1;
+                    double x1 = guess2;
+                    if (!Double.isNaN(previous)) {
+                        double delta = Double.isNaN(beforePrevious) ? 0 : previous - beforePrevious;
+                        if (Math.abs(delta) < 10 * tolerance) {
+                            delta = 10 * tolerance;
+                        }
+                        x0 = previous - delta;
+                        x1 = previous;
+                    }
+                    ArrayList<Double> xn = m.secant(expr, x0, x1, new ArrayList<>());
+                    root = xn.get(xn.size() - 1);
+                    steps = xn.size() - 2;
+                    break;
+                }
+                default: {
+                    double[] bracket = Double.isNaN(previous) ? null : bracketNear(m, expr, previous, beforePrevious);
+                    double a = bracket == null ? guess1 : bracket[0];
+                    double b = bracket == null ? guess2 : bracket[1];
+                    if (method.equals("bisection")) {
+                        LinkedList<Pair<Double, Double>> xn = m.bisection(expr, a, b, new LinkedList<>());
+                        Pair<Double, Double> last = xn.getLast();
+                        root = (last.getX() + last.getY()) / 2;
+                        steps = xn.size();
+                    } else {
+                        ArrayList<Pair<Double, Double>> xn = m.falsePosition(expr, a, b, new ArrayList<>());
+                        Pair<Double, Double> last = xn.get(xn.size() - 1);
+                        double fa = m.evaluate(expr, last.getX());
+                        double fb = m.evaluate(expr, last.getY());
+                        if (Math.abs(last.getY() - last.getX()) < tolerance) {
+                            root = last.getX();
+                        } else if (Math.abs(fb - fa) < 1e-10) {
+                            root = (last.getX() + last.getY()) / 2;
+                        } else {
+                            root = last.getX() - (last.getY() - last.getX()) * fa / (fb - fa);
+                        }
+                        steps = xn.size();
+                    }
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            root = Double.NaN;
+            steps = 0;
+        }
+        roots[i] = root;
+        iterations[i] = steps;
+        converged[i] = m.getFailureReason() == null && Double.isFinite(root);
+    }
+
+    // Widens [r - w, r + w] around the previous root until f changes sign, or gives up
+    private double[] bracketNear(Methods m, Expression expr, double previous, double beforePrevious) {
+        double w = Double.isNaN(beforePrevious) ? 0 : 2 * Math.abs(previous - beforePrevious);
+        w = Math.max(w, 10 * tolerance);
+        for (int attempt = 0; attempt < 8; attempt++, w *= 4) {
+            double a = previous - w;
+            double b = previous + w;
+            if (m.evaluate(expr, a) * m.evaluate(expr, b) < 0) {
+                return new double[] {a, b};
+            }
+        }
+        return null;
+    }
+}
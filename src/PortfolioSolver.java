@@ -0,0 +1,232 @@
+package src;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import net.objecthunter.exp4j.Expression;
+import net.objecthunter.exp4j.ExpressionBuilder;
+
+/**
+ * The "auto" method: races Newton-Raphson, Secant, False Position, Bisection and
+ * Fixed-Point (on g(x) = x - f(x)) over the same input and returns the first result
+ * whose root checks out against f. Open methods start from guess1 (Secant also uses
+ * guess2); bracketing methods use [guess1, guess2] and drop out at once when f does not
+ * change sign there.
+ *
+ * All candidates share one cancellation flag, polled by {@link Methods#evaluate}, so the
+ * losers stop at their next function evaluation once a winner is found. Wins are counted
+ * per method, and candidates are submitted in order of past wins: on a machine with
+ * fewer cores than candidates the method that usually wins gets a core first.
+ */
+public final class PortfolioSolver {
+    static final String[] CANDIDATES = {"newton-raphson", "secant", "false-position", "bisection", "fixed-point"};
+
+    private static final ConcurrentHashMap<String, LongAdder> WINS = new ConcurrentHashMap<>();
+    private static final LongAdder RACES = new LongAdder();
+    private static final LongAdder NO_WINNER = new LongAdder();
+
+    // One thread per core: concurrent races queue up rather than each adding five threads
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+            r -> {
+                Thread t = new Thread(r, "portfolio-solver");
+                t.setDaemon(true);
+                return t;
+            });
+
+    private PortfolioSolver() {
+    }
+
+    public static CalculatorBackend.Result solve(String function, double guess1, double guess2, double tolerance,
+                                                 int maxIterations) {
+        return solve(function, guess1, guess2, tolerance, maxIterations, new AtomicBoolean());
+    }
+
+    /** As {@link #solve(String, double, double, double, int)}, with the candidates' shared cancellation flag. */
+    static CalculatorBackend.Result solve(String function, double guess1, double guess2, double tolerance,
+                                          int maxIterations, AtomicBoolean cancelled) {
+        long start = System.nanoTime();
+        Expression f = new ExpressionBuilder(function).variable("x").build();
+        String fixedPointForm = "x - (" + function + ")";
+        List<String> order = ordering();
+        CompletionService<Entry> race = new ExecutorCompletionService<>(POOL);
+        List<Future<Entry>> futures = new ArrayList<>();
+        List<Entry> entries = new ArrayList<>();
+        for (String method : order) {
+            futures.add(race.submit(() -> {
+                Methods m = new Methods(maxIterations);
+                m.setTolerance(BigDecimal.valueOf(tolerance));
+                m.setCancellation(cancelled);
+                String input = method.equals("fixed-point") ? fixedPointForm : function;
+                CalculatorBackend.Result result = CalculatorBackend.solveWith(m, method, method, input, guess1, guess2,
+                        tolerance);
+                return new Entry(method, m, result);
+            }));
+        }
+        Entry winner = null;
+        try {
+            for (int i = 0; i < futures.size() && winner == null; i++) {
+                Entry entry = race.take().get();
+                // Verified here rather than in the task: f is not safe to share across threads
+                entry.verified = entry.result.hasConverged() && verify(f, entry.result.getRoot(), tolerance);
+                entries.add(entry);
+                if (entry.verified) {
+                    winner = entry;
+                    cancelled.set(true);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled.set(true);
+            throw new IllegalStateException("Interrupted while racing solvers", e);
+        } catch (ExecutionException e) {
+            cancelled.set(true);
+            throw new IllegalStateException("Solver failed: " + e.getCause(), e.getCause());
+        }
+        for (Future<Entry> future : futures) {
+            future.cancel(false);
+        }
+
+        RACES.increment();
+        if (winner != null) {
+            win(winner.method);
+        } else {
+            NO_WINNER.increment();
+        }
+        long evaluations = 0;
+        long requests = 0;
+        for (Entry entry : entries) {
+            evaluations += entry.methods.getEvaluationCount();
+            requests += entry.methods.getEvaluationRequests();
+        }
+        StringBuilder history = new StringBuilder();
+        history.append("Auto: raced " + String.join(", ", order) + "\n");
+        for (Entry entry : entries) {
+            history.append("  " + entry.method + ": ");
+            if (entry.verified) {
+                history.append("root " + entry.result.getRoot() + " in " + entry.result.getSteps().size()
+                        + " iterations (winner)\n");
+            } else if (entry.result.hasConverged()) {
+                history.append("root " + entry.result.getRoot() + " failed verification\n");
+            } else {
+                String reason = entry.result.getFailureReason();
+                history.append((reason == null ? "failed" : reason) + "\n");
+            }
+        }
+        if (winner != null && entries.size() < order.size()) {
+            history.append("  others cancelled\n");
+        }
+        history.append("\n");
+        CalculatorBackend.Result result;
+        if (winner != null) {
+            history.append(winner.result.getHistory());
+            result = new CalculatorBackend.Result(winner.result.getRoot(), history.toString(), winner.result.getSteps(),
+                    true);
+        } else {
+            // Show the attempt of the method that usually wins
+            CalculatorBackend.Result first = entries.get(0).result;
+            for (Entry entry : entries) {
+                if (entry.method.equals(order.get(0))) {
+                    first = entry.result;
+                }
+            }
+            history.append(first.getHistory());
+            result = new CalculatorBackend.Result(first.getRoot(), history.toString(), first.getSteps(), false,
+                    "No method found a verified root");
+        }
+        SolverMetrics.global().record("auto", evaluations, requests, result.getSteps().size(), result.hasConverged(),
+                result.getFailureReason(), System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * A converged root is accepted when f vanishes there, changes sign within
+     * ±2·tolerance, or |f(root)| is itself below the tolerance (even-multiplicity roots).
+     */
+    static boolean verify(Expression f, double root, double tolerance) {
+        if (!Double.isFinite(root)) {
+            return false;
+        }
+        double fr = f.setVariable("x", root).evaluate();
+        if (fr == 0 || Math.abs(fr) <= tolerance) {
+            return true;
+        }
+        double left = f.setVariable("x", root - 2 * tolerance).evaluate();
+        double right = f.setVariable("x", root + 2 * tolerance).evaluate();
+        return left * right < 0;
+    }
+
+    /** Candidates by descending number of wins; ties keep the default order. */
+    static List<String> ordering() {
+        List<String> order = new ArrayList<>();
+        Collections.addAll(order, CANDIDATES);
+        order.sort((a, b) -> Long.compare(wins(b), wins(a)));
+        return order;
+    }
+
+    private static long wins(String method) {
+        LongAdder count = WINS.get(method);
+        return count == null ? 0 : count.sum();
+    }
+
+    private static void win(String method) {
+        LongAdder count = WINS.get(method);
+        if (count == null) {
+            LongAdder created = new LongAdder();
+            count = WINS.putIfAbsent(method, created);
+            if (count == null) {
+                count = created;
+            }
+        }
+        count.increment();
+    }
+
+    /** Wins per method since start-up (or the last {@link #resetStatistics()}). */
+    public static Map<String, Long> getWins() {
+        Map<String, Long> wins = new TreeMap<>();
+        for (String method : CANDIDATES) {
+            wins.put(method, wins(method));
+        }
+        return Collections.unmodifiableMap(wins);
+    }
+
+    public static void resetStatistics() {
+        WINS.clear();
+        RACES.reset();
+        NO_WINNER.reset();
+    }
+
+    public static String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("portfolio_races_total ").append(RACES.sum()).append('\n');
+        sb.append("portfolio_no_winner_total ").append(NO_WINNER.sum()).append('\n');
+        for (Map.Entry<String, Long> e : getWins().entrySet()) {
+            sb.append("portfolio_wins_total{method=\"").append(e.getKey()).append("\"} ").append(e.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static final class Entry {
+        final String method;
+        final Methods methods;
+        final CalculatorBackend.Result result;
+        boolean verified;
+
+        Entry(String method, Methods methods, CalculatorBackend.Result result) {
+            this.method = method;
+            this.methods = methods;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package src;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of finished solves keyed by their canonical parameters (see
+ * {@link CalculatorBackend#cacheKey}). Entries are evicted least-recently-used once the
+ * cache is full and expire after a fixed time to live. The cache is split into
+ * independently locked segments so concurrent lookups rarely contend; the capacity is
+ * split exactly between them, so the cache never holds more than maxEntries results.
+ *
+ * {@link CalculatorBackend.Result} is immutable, so one cached instance is safely shared
+ * by every caller that asks for the same solve.
+ */
+public final class ResultCache {
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * @param maxEntries total capacity; 0 disables caching
+     * @param ttlMillis  time to live of an entry; 0 or less means entries never expire
+     */
+    public ResultCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = Math.max(0, maxEntries);
+        // toNanos saturates at Long.MAX_VALUE instead of overflowing for huge TTLs
+        this.ttlNanos = ttlMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(ttlMillis) : Long.MAX_VALUE;
+        // Fewer segments than 16 for tiny caches, so none is left with no room
+        int count = Integer.highestOneBit(Math.max(1, Math.min(SEGMENTS, this.maxEntries)));
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(this.maxEntries / count + (i < this.maxEntries % count ? 1 : 0));
+        }
+    }
+
+    private static final class Entry {
+        final CalculatorBackend.Result result;
+        final long storedAt;
+
+        Entry(CalculatorBackend.Result result, long storedAt) {
+            this.result = result;
+            this.storedAt = storedAt;
+        }
+    }
+
+    // Access-ordered LinkedHashMap: iteration order is least recently used first
+    private final class Segment extends LinkedHashMap<String, Entry> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private Segment segmentFor(String key) {
+        return segments[segmentIndex(key)];
+    }
+
+    int segmentIndex(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (segments.length - 1);
+    }
+
+    /**
+     * @return the cached result, or null on a miss or if the entry has expired
+     */
+    public CalculatorBackend.Result get(String key) {
+        if (maxEntries == 0) {
+            return null;
+        }
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            Entry entry = segment.get(key);
+            if (entry != null && System.nanoTime() - entry.storedAt < ttlNanos) {
+                hits.increment();
+                return entry.result;
+            }
+            if (entry != null) {
+                segment.remove(key);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(String key, CalculatorBackend.Result result) {
+        if (maxEntries == 0) {
+            return;
+        }
+        Entry entry = new Entry(result, System.nanoTime());
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, entry);
+        }
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("result_cache_hits_total ").append(getHits()).append('\n');
+        sb.append("result_cache_misses_total ").append(getMisses()).append('\n');
+        sb.append("result_cache_evictions_total ").append(getEvictions()).append('\n');
+        sb.append("result_cache_expirations_total ").append(getExpirations()).append('\n');
+        sb.append("result_cache_entries ").append(size()).append('\n');
+        sb.append("result_cache_hit_ratio ").append(getHitRate()).append('\n');
+        return sb.toString();
+    }
+}
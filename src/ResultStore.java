@@ -0,0 +1,408 @@
+package src;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of solved results, read back through a memory mapping so a restarted
+ * service answers previously solved requests without recomputing them.
+ *
+ * <pre>
+ * file   := magic:int version:int solver:int record*
+ * record := length:int crc32:int payload[length]
+ * payload:= key:utf  root:double  flags:byte  iterations:int  history:utf
+ *           iteration:int[n]  x:double[n]  fx:double[n]  fpx:double[n]  error:double[n]
+ *           (a:double[n]  b:double[n])   when flags has HAS_BRACKET
+ *           (refreshed:byte[n])          when flags has HAS_REFRESH
+ *           (reason:utf)                 when flags has HAS_REASON
+ * utf    := length:int bytes[length]
+ * </pre>
+ *
+ * A file with another format version or solver version is emptied on open: its records
+ * may differ from what the current solvers return. Bump {@link #SOLVER_VERSION} whenever
+ * a solver's results or history change.
+ *
+ * Each record is written with a single positional write. On open the file is scanned and
+ * every record whose length or CRC does not check out, and everything after it, is cut
+ * off, so a crash mid-append loses at most that record. The in-memory index maps each
+ * key to the offset of its latest record; {@link #compact()} rewrites the file with only
+ * those records. Files are limited to 2 GB (one mapping). Appended records are read
+ * through the channel until the unmapped tail is as large as the mapping, which is then
+ * grown to the whole file, so the number of mappings grows with the log of the file size.
+ */
+public final class ResultStore implements Closeable {
+    private static final int MAGIC = 0x49435253; // "ICRS"
+    private static final int VERSION = 2;
+    static final int SOLVER_VERSION = 1;
+    private static final int FILE_HEADER = 12;
+    private static final int MIN_REMAP = 1 << 20;
+    private static final int RECORD_HEADER = 8;
+    private static final byte CONVERGED = 1;
+    private static final byte HAS_BRACKET = 2;
+    private static final byte HAS_REFRESH = 4;
+    private static final byte HAS_REASON = 8;
+
+    private final Path path;
+    private final boolean sync;
+    private final ConcurrentHashMap<String, Long> index = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private long end;
+    private long deadBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder appends = new LongAdder();
+
+    /**
+     * @param sync force every append to the device before returning; without it appends
+     *             survive a process crash but not necessarily a power loss
+     */
+    public ResultStore(Path path, boolean sync) throws IOException {
+        this.path = path;
+        this.sync = sync;
+        load();
+    }
+
+    /**
+     * Opens the store and compacts it first if more than half of the file is superseded records.
+     */
+    public static ResultStore open(Path path, boolean sync) throws IOException {
+        ResultStore store = new ResultStore(path, sync);
+        if (store.getDeadBytes() > store.getFileSize() / 2) {
+            store.compact();
+        }
+        return store;
+    }
+
+    private void load() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Result store larger than 2 GB: " + path);
+        }
+        if (size >= 4 && headerInt(0) != MAGIC) {
+            throw new IOException("Not a result store (bad header): " + path);
+        }
+        if (size < FILE_HEADER || headerInt(4) != VERSION || headerInt(8) != SOLVER_VERSION) {
+            // Empty, or written by another format or solver version: start over
+            channel.truncate(0);
+            channel.write(header(), 0);
+            channel.force(true);
+            size = FILE_HEADER;
+        }
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        index.clear();
+        deadBytes = 0;
+        long pos = FILE_HEADER;
+        CRC32 crc = new CRC32();
+        while (pos + RECORD_HEADER <= size) {
+            int length = mapped.getInt((int) pos);
+            if (length <= 0 || pos + RECORD_HEADER + length > size) {
+                break;
+            }
+            ByteBuffer payload = region(pos + RECORD_HEADER, length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != mapped.getInt((int) pos + 4)) {
+                break;
+            }
+            Long previous = index.put(readUtf(payload), pos);
+            if (previous != null) {
+                deadBytes += recordSize(previous);
+            }
+            pos += RECORD_HEADER + length;
+        }
+        if (pos < size) {
+            // Torn or corrupt tail from an interrupted append: drop it
+            channel.truncate(pos);
+            channel.force(true);
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, pos);
+        }
+        end = pos;
+    }
+
+    public CalculatorBackend.Result get(String key) {
+        lock.readLock().lock();
+        try {
+            Long offset = index.get(key);
+            if (offset == null) {
+                misses.increment();
+                return null;
+            }
+            ByteBuffer payload = region(offset + RECORD_HEADER, recordSize(offset) - RECORD_HEADER);
+            readUtf(payload);
+            hits.increment();
+            return decode(payload);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(String key, CalculatorBackend.Result result) throws IOException {
+        ByteBuffer record = encode(key, result);
+        lock.writeLock().lock();
+        try {
+            if (end + record.remaining() > Integer.MAX_VALUE) {
+                throw new IOException("Result store full (2 GB); compact or rotate " + path);
+            }
+            long offset = end;
+            while (record.hasRemaining()) {
+                end += channel.write(record, end);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+            if (end - mapped.capacity() >= Math.max(MIN_REMAP, mapped.capacity())) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+            }
+            Long previous = index.put(key, offset);
+            if (previous != null) {
+                deadBytes += recordSize(previous);
+            }
+            appends.increment();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the file with only the latest record for each key, then atomically replaces
+     * the original with it.
+     */
+    public void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            Path tmp = path.resolveSibling(path.getFileName() + ".compact");
+            Map<Long, String> byOffset = new TreeMap<>();
+            for (Map.Entry<String, Long> e : index.entrySet()) {
+                byOffset.put(e.getValue(), e.getKey());
+            }
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                out.write(header());
+                for (long offset : byOffset.keySet()) {
+                    ByteBuffer record = region(offset, recordSize(offset));
+                    while (record.hasRemaining()) {
+                        out.write(record);
+                    }
+                }
+                out.force(true);
+            }
+            // Drop the mapping before replacing the file it maps
+            mapped = null;
+            channel.close();
+            try {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.deleteIfExists(tmp);
+                load();
+                throw e;
+            }
+            load();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public long getFileSize() {
+        return end;
+    }
+
+    public long getDeadBytes() {
+        return deadBytes;
+    }
+
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("result_store_hits_total ").append(hits.sum()).append('\n');
+        sb.append("result_store_misses_total ").append(misses.sum()).append('\n');
+        sb.append("result_store_appends_total ").append(appends.sum()).append('\n');
+        sb.append("result_store_entries ").append(size()).append('\n');
+        sb.append("result_store_bytes ").append(end).append('\n');
+        sb.append("result_store_dead_bytes ").append(deadBytes).append('\n');
+        return sb.toString();
+    }
+
+    private int recordSize(long offset) {
+        return RECORD_HEADER + region(offset, 4).getInt();
+    }
+
+    // Bytes [offset, offset + length) from the mapping, or from the channel past its end
+    private ByteBuffer region(long offset, int length) {
+        if (offset + length <= mapped.capacity()) {
+            ByteBuffer b = mapped.duplicate();
+            b.position((int) offset).limit((int) offset + length);
+            return b.slice();
+        }
+        ByteBuffer b = ByteBuffer.allocate(length);
+        try {
+            while (b.hasRemaining()) {
+                if (channel.read(b, offset + b.position()) < 0) {
+                    throw new EOFException("Result store truncated at " + (offset + b.position()) + ": " + path);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        b.flip();
+        return b;
+    }
+
+    private int headerInt(long position) throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(4);
+        channel.read(b, position);
+        return b.position() == 4 ? b.getInt(0) : 0;
+    }
+
+    private static ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER).putInt(MAGIC).putInt(VERSION).putInt(SOLVER_VERSION);
+        header.flip();
+        return header;
+    }
+
+    private static ByteBuffer encode(String key, CalculatorBackend.Result result) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] history = result.getHistory() == null ? new byte[0] : result.getHistory().getBytes(StandardCharsets.UTF_8);
+        List<CalculatorBackend.IterationStep> steps = result.getSteps();
+        int n = steps.size();
+        boolean bracket = false;
+        for (CalculatorBackend.IterationStep step : steps) {
+            if (step.getA() != null || step.getB() != null) {
+                bracket = true;
+                break;
+            }
+        }
+        boolean refresh = n > 0 && steps.get(0).getDerivativeRefreshed() != null;
+        int columns = bracket ? 6 : 4;
+        int payload = 4 + keyBytes.length + 8 + 1 + 4 + 4 + history.length + 4 * n + 8 * n * columns
+                + (refresh ? n : 0);
+        byte[] reason = result.getFailureReason() == null ? null
+                : result.getFailureReason().getBytes(StandardCharsets.UTF_8);
+        if (reason != null) {
+            payload += 4 + reason.length;
+        }
+        ByteBuffer b = ByteBuffer.allocate(RECORD_HEADER + payload);
+        b.putInt(payload).putInt(0);
+        b.putInt(keyBytes.length).put(keyBytes);
+        b.putDouble(result.getRoot());
+        b.put((byte) ((result.hasConverged() ? CONVERGED : 0) | (bracket ? HAS_BRACKET : 0)
+                | (refresh ? HAS_REFRESH : 0) | (reason != null ? HAS_REASON : 0)));
+        b.putInt(n);
+        b.putInt(history.length).put(history);
+        for (CalculatorBackend.IterationStep s : steps) {
+            b.putInt(s.getIteration());
+        }
+        for (CalculatorBackend.IterationStep s : steps) {
+            b.putDouble(s.getX());
+        }
+        for (CalculatorBackend.IterationStep s : steps) {
+            b.putDouble(s.getFx());
+        }
+        for (CalculatorBackend.IterationStep s : steps) {
+            b.putDouble(s.getFpx());
+        }
+        for (CalculatorBackend.IterationStep s : steps) {
+            b.putDouble(s.getError());
+        }
+        if (bracket) {
+            for (CalculatorBackend.IterationStep s : steps) {
+                b.putDouble(s.getA() == null ? Double.NaN : s.getA());
+            }
+            for (CalculatorBackend.IterationStep s : steps) {
+                b.putDouble(s.getB() == null ? Double.NaN : s.getB());
+            }
+        }
+        if (refresh) {
+            for (CalculatorBackend.IterationStep s : steps) {
+                b.put((byte) (Boolean.TRUE.equals(s.getDerivativeRefreshed()) ? 1 : 0));
+            }
+        }
+        if (reason != null) {
+            b.putInt(reason.length).put(reason);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(b.array(), RECORD_HEADER, payload);
+        b.putInt(4, (int) crc.getValue());
+        b.flip();
+        return b;
+    }
+
+    private static CalculatorBackend.Result decode(ByteBuffer b) {
+        double root = b.getDouble();
+        byte flags = b.get();
+        int n = b.getInt();
+        byte[] history = new byte[b.getInt()];
+        b.get(history);
+        int[] iteration = new int[n];
+        double[][] cols = new double[(flags & HAS_BRACKET) != 0 ? 6 : 4][n];
+        for (int i = 0; i < n; i++) {
+            iteration[i] = b.getInt();
+        }
+        for (double[] col : cols) {
+            for (int i = 0; i < n; i++) {
+                col[i] = b.getDouble();
+            }
+        }
+        Boolean[] refreshed = new Boolean[n];
+        if ((flags & HAS_REFRESH) != 0) {
+            for (int i = 0; i < n; i++) {
+                refreshed[i] = b.get() != 0;
+            }
+        }
+        List<CalculatorBackend.IterationStep> steps = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            if (refreshed[i] != null) {
+                steps.add(new CalculatorBackend.IterationStep(iteration[i], cols[0][i], cols[1][i], cols[2][i], cols[3][i],
+                        refreshed[i].booleanValue()));
+            } else if (cols.length == 6) {
+                steps.add(new CalculatorBackend.IterationStep(iteration[i], cols[0][i], cols[1][i], cols[2][i], cols[3][i],
+                        Double.isNaN(cols[4][i]) ? null : cols[4][i], Double.isNaN(cols[5][i]) ? null : cols[5][i]));
+            } else {
+                steps.add(new CalculatorBackend.IterationStep(iteration[i], cols[0][i], cols[1][i], cols[2][i], cols[3][i]));
+            }
+        }
+        String reason = (flags & HAS_REASON) != 0 ? readUtf(b) : null;
+        return new CalculatorBackend.Result(root, new String(history, StandardCharsets.UTF_8), steps,
+                (flags & CONVERGED) != 0, reason);
+    }
+
+    private static String readUtf(ByteBuffer b) {
+        byte[] bytes = new byte[b.getInt()];
+        b.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,72 @@
+package src;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one root-finding solve. When no recording is running,
+ * {@link #finish} is a single flag check and the event object is scalar-replaced by the
+ * JIT, so leaving the instrumentation in costs next to nothing.
+ *
+ * The JFR event itself is the nested {@link Jfr} class, created only once Flight Recorder
+ * has been initialized (by {@code -XX:StartFlightRecording}, {@code jcmd JFR.start} or the
+ * API). Loading an {@link Event} subclass registers it with Flight Recorder, which takes a
+ * few hundred milliseconds; a short-lived CLI run that never records skips that entirely.
+ */
+final class SolveEvent {
+    private static final SolveEvent DISABLED = new SolveEvent(null);
+
+    private final Jfr event;
+
+    private SolveEvent(Jfr event) {
+        this.event = event;
+    }
+
+    static SolveEvent started() {
+        if (!FlightRecorder.isInitialized()) {
+            return DISABLED;
+        }
+        Jfr event = new Jfr();
+        event.begin();
+        return new SolveEvent(event);
+    }
+
+    void finish(String method, String function, int iterations, long evaluations, boolean converged) {
+        if (event != null && event.shouldCommit()) {
+            event.method = method;
+            event.functionHash = function == null ? 0 : function.hashCode();
+            event.iterations = iterations;
+            event.evaluations = evaluations;
+            event.converged = converged;
+            event.commit();
+        }
+    }
+
+    @Name("iterationcalculator.Solve")
+    @Label("Root Solve")
+    @Category({"IterationCalculator", "Solver"})
+    @Description("One call to a CalculatorBackend root finder")
+    @StackTrace(false)
+    static final class Jfr extends Event {
+        @Label("Method")
+        String method;
+
+        @Label("Function Hash")
+        @Description("hashCode of the function text, so recordings can group solves without storing the input")
+        int functionHash;
+
+        @Label("Iterations")
+        int iterations;
+
+        @Label("Function Evaluations")
+        long evaluations;
+
+        @Label("Converged")
+        boolean converged;
+    }
+}
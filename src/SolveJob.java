@@ -0,0 +1,164 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One root-finding request: method, function, guesses, tolerance and iteration budget.
+ * Used by the headless entry points to read jobs from CSV or JSON.
+ */
+public class SolveJob {
+    public static final double DEFAULT_TOLERANCE = 1e-4;
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    private final String method;
+    private final String function;
+    private final double guess1;
+    private final double guess2;
+    private final double tolerance;
+    private final int maxIterations;
+
+    public SolveJob(String method, String function, double guess1, double guess2, double tolerance, int maxIterations) {
+        if (function == null || function.trim().isEmpty()) {
+            throw new IllegalArgumentException("Missing function");
+        }
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("Tolerance must be a positive number");
+        }
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("maxIterations must be positive");
+        }
+        this.method = CalculatorBackend.normalizeMethod(method);
+        this.function = function.trim();
+        this.guess1 = guess1;
+        this.guess2 = guess2;
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    public CalculatorBackend.Result run() {
+        return CalculatorBackend.solve(method, function, guess1, guess2, tolerance, maxIterations);
+    }
+
+    /**
+     * Canonical identity of the job; two jobs with equal keys always produce the same result.
+     */
+    public String key() {
+        return CalculatorBackend.cacheKey(method, function, guess1, guess2, tolerance, maxIterations);
+    }
+
+    /**
+     * Parses a JSON object with keys method, function, guess1 (or x0/a), guess2 (or x1/b),
+     * tolerance and maxIterations.
+     */
+    public static SolveJob fromJson(Map<String, Object> obj) {
+        Object method = obj.get("method");
+        Object function = obj.get("function");
+        return new SolveJob(
+            method == null ? null : method.toString(),
+            function == null ? null : function.toString(),
+            Json.toDouble(first(obj, "guess1", "x0", "a"), Double.NaN),
+            Json.toDouble(first(obj, "guess2", "x1", "b"), Double.NaN),
+            Json.toDouble(obj.get("tolerance"), DEFAULT_TOLERANCE),
+            (int) Json.toDouble(obj.get("maxIterations"), DEFAULT_MAX_ITERATIONS));
+    }
+
+    public static SolveJob fromJson(String line) {
+        return fromJson(Json.parseObject(line));
+    }
+
+    /**
+     * Parses a CSV row: method,function,guess1,guess2,tolerance,maxIterations.
+     * guess2, tolerance and maxIterations may be left empty. Functions containing
+     * commas must be double-quoted.
+     */
+    public static SolveJob fromCsv(String line) {
+        List<String> cols = splitCsv(line);
+        if (cols.size() < 3) {
+            throw new IllegalArgumentException("Expected at least method,function,guess1");
+        }
+        return new SolveJob(
+            cols.get(0),
+            cols.get(1),
+            parseOr(cols, 2, Double.NaN),
+            parseOr(cols, 3, Double.NaN),
+            parseOr(cols, 4, DEFAULT_TOLERANCE),
+            (int) parseOr(cols, 5, DEFAULT_MAX_ITERATIONS));
+    }
+
+    private static Object first(Map<String, Object> obj, String... keys) {
+        for (String key : keys) {
+            if (obj.containsKey(key)) {
+                return obj.get(key);
+            }
+        }
+        return null;
+    }
+
+    private static double parseOr(List<String> cols, int index, double defaultValue) {
+        if (index >= cols.size() || cols.get(index).trim().isEmpty()) {
+            return defaultValue;
+        }
+        return Double.parseDouble(cols.get(index).trim());
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> cols = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cols.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        cols.add(current.toString());
+        return cols;
+    }
+
+    static String csvField(String s) {
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0) {
+            return s;
+        }
+        return "\"" + s.replace("\"", "\"\"") + "\"";
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getFunction() {
+        return function;
+    }
+
+    public double getGuess1() {
+        return guess1;
+    }
+
+    public double getGuess2() {
+        return guess2;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+}
@@ -0,0 +1,247 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide counters for the solvers: calls, function evaluations (computed and
+ * requested, the difference being memo hits in {@link Methods#evaluate}), iterations,
+ * converged/failed outcomes (with failure reasons) and a latency histogram per method.
+ * All counters are {@link LongAdder}s so recording from many threads stays cheap, and the
+ * record path avoids lambdas so it adds nothing to the CLI's cold start.
+ * Read with {@link #snapshot()} or export with {@link #toText()} (Prometheus text format).
+ */
+public final class SolverMetrics {
+    private static final SolverMetrics GLOBAL = new SolverMetrics();
+
+    private final ConcurrentHashMap<String, MethodStats> methods = new ConcurrentHashMap<>();
+
+    public static SolverMetrics global() {
+        return GLOBAL;
+    }
+
+    public void record(String method, long evaluations, long evaluationRequests, int iterations, boolean converged,
+                       String failureReason, long nanos) {
+        MethodStats stats = methods.get(method);
+        if (stats == null) {
+            MethodStats created = new MethodStats();
+            stats = methods.putIfAbsent(method, created);
+            if (stats == null) {
+                stats = created;
+            }
+        }
+        stats.calls.increment();
+        stats.evaluations.add(evaluations);
+        stats.evaluationRequests.add(evaluationRequests);
+        stats.iterations.add(iterations);
+        if (converged) {
+            stats.converged.increment();
+        } else {
+            stats.failed.increment();
+            String reason = failureReason == null ? "unknown" : failureReason;
+            LongAdder count = stats.failures.get(reason);
+            if (count == null) {
+                LongAdder created = new LongAdder();
+                count = stats.failures.putIfAbsent(reason, created);
+                if (count == null) {
+                    count = created;
+                }
+            }
+            count.increment();
+        }
+        stats.latency.record(nanos);
+    }
+
+    /**
+     * Records a finished solve using the evaluation count and failure reason kept by {@code m}.
+     */
+    public void record(String method, Methods m, CalculatorBackend.Result result, long nanos) {
+        String reason = m.getFailureReason();
+        boolean converged = result.hasConverged() && reason == null;
+        if (reason == null && !result.hasConverged()) {
+            reason = "error";
+        }
+        record(method, m.getEvaluationCount(), m.getEvaluationRequests(), result.getSteps().size(), converged, reason, nanos);
+    }
+
+    public void reset() {
+        methods.clear();
+    }
+
+    public List<Snapshot> snapshot() {
+        List<Snapshot> list = new ArrayList<>();
+        for (Map.Entry<String, MethodStats> e : new TreeMap<>(methods).entrySet()) {
+            list.add(e.getValue().snapshot(e.getKey()));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        for (Snapshot s : snapshot()) {
+            String label = "{method=\"" + s.method + "\"}";
+            sb.append("solver_calls_total").append(label).append(' ').append(s.calls).append('\n');
+            sb.append("solver_converged_total").append(label).append(' ').append(s.converged).append('\n');
+            sb.append("solver_failed_total").append(label).append(' ').append(s.failed).append('\n');
+            sb.append("solver_evaluations_total").append(label).append(' ').append(s.evaluations).append('\n');
+            sb.append("solver_evaluation_requests_total").append(label).append(' ').append(s.evaluationRequests).append('\n');
+            sb.append("solver_iterations_total").append(label).append(' ').append(s.iterations).append('\n');
+            for (Map.Entry<String, Long> f : s.failures.entrySet()) {
+                sb.append("solver_failures_total{method=\"").append(s.method).append("\",reason=\"")
+                  .append(f.getKey().replace("\"", "'")).append("\"} ").append(f.getValue()).append('\n');
+            }
+            String[] q = {"0.5", "0.9", "0.99"};
+            long[] v = {s.p50Nanos, s.p90Nanos, s.p99Nanos};
+            for (int i = 0; i < q.length; i++) {
+                sb.append("solver_latency_seconds{method=\"").append(s.method).append("\",quantile=\"").append(q[i])
+                  .append("\"} ").append(v[i] / 1e9).append('\n');
+            }
+            sb.append("solver_latency_seconds_max").append(label).append(' ').append(s.maxNanos / 1e9).append('\n');
+            sb.append("solver_latency_seconds_sum").append(label).append(' ').append(s.totalNanos / 1e9).append('\n');
+            sb.append("solver_latency_seconds_count").append(label).append(' ').append(s.calls).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static final class MethodStats {
+        final LongAdder calls = new LongAdder();
+        final LongAdder converged = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder evaluations = new LongAdder();
+        final LongAdder evaluationRequests = new LongAdder();
+        final LongAdder iterations = new LongAdder();
+        final ConcurrentHashMap<String, LongAdder> failures = new ConcurrentHashMap<>();
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        Snapshot snapshot(String method) {
+            Map<String, Long> f = new TreeMap<>();
+            for (Map.Entry<String, LongAdder> e : failures.entrySet()) {
+                f.put(e.getKey(), e.getValue().sum());
+            }
+            return new Snapshot(method, calls.sum(), converged.sum(), failed.sum(), evaluations.sum(),
+                    evaluationRequests.sum(), iterations.sum(), Collections.unmodifiableMap(f), latency.total.sum(), latency.max.get(),
+                    latency.percentile(0.5), latency.percentile(0.9), latency.percentile(0.99));
+        }
+    }
+
+    /**
+     * Log-linear histogram in the style of HdrHistogram: each power of two is split into
+     * {@code SUB_BUCKETS} linear buckets, giving about 12% relative error at any magnitude
+     * with a fixed array of counters and no allocation on record.
+     */
+    static final class LatencyHistogram {
+        private static final int SUB_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BITS;
+        private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+        private final LongAdder[] counts = new LongAdder[BUCKETS];
+        final LongAdder total = new LongAdder();
+        final AtomicLong max = new AtomicLong();
+
+        LatencyHistogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        void record(long value) {
+            value = Math.max(0, value);
+            counts[index(value)].increment();
+            total.add(value);
+            long current;
+            while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+                // lost a race with a larger value or another writer; re-read
+            }
+        }
+
+        static int index(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+        }
+
+        static long upperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+            long sub = index % SUB_BUCKETS;
+            long low = (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+            return low + (1L << (exponent - SUB_BITS)) - 1;
+        }
+
+        long percentile(double p) {
+            long[] snapshot = new long[BUCKETS];
+            long n = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = counts[i].sum();
+                n += snapshot[i];
+            }
+            if (n == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(p * n);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    return Math.min(upperBound(i), max.get());
+                }
+            }
+            return max.get();
+        }
+    }
+
+    /**
+     * Immutable view of one method's counters at the time {@link #snapshot()} was taken.
+     */
+    public static final class Snapshot {
+        public final String method;
+        public final long calls;
+        public final long converged;
+        public final long failed;
+        public final long evaluations;
+        /** f(x) lookups including memo hits; {@code evaluationRequests - evaluations} were saved. */
+        public final long evaluationRequests;
+        public final long iterations;
+        public final Map<String, Long> failures;
+        public final long totalNanos;
+        public final long maxNanos;
+        public final long p50Nanos;
+        public final long p90Nanos;
+        public final long p99Nanos;
+
+        Snapshot(String method, long calls, long converged, long failed, long evaluations, long evaluationRequests, long iterations,
+                 Map<String, Long> failures, long totalNanos, long maxNanos, long p50Nanos, long p90Nanos, long p99Nanos) {
+            this.method = method;
+            this.calls = calls;
+            this.converged = converged;
+            this.failed = failed;
+            this.evaluations = evaluations;
+            this.evaluationRequests = evaluationRequests;
+            this.iterations = iterations;
+            this.failures = failures;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.p50Nanos = p50Nanos;
+            this.p90Nanos = p90Nanos;
+            this.p99Nanos = p99Nanos;
+        }
+
+        @Override
+        public String toString() {
+            return method + ": calls=" + calls + " converged=" + converged + " failed=" + failed
+                    + " evaluations=" + evaluations + "/" + evaluationRequests + " iterations=" + iterations
+                    + " p50=" + p50Nanos / 1000 + "us p99=" + p99Nanos / 1000 + "us max=" + maxNanos / 1000 + "us";
+        }
+    }
+}
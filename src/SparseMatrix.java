@@ -0,0 +1,297 @@
+package src;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable sparse matrix in compressed sparse row (CSR) form: the column indices and
+ * values of row i are {@code colIndex/values[rowPtr[i] .. rowPtr[i+1])}, sorted by column.
+ * Storage and the cost of every operation grow with the number of nonzeros, not n².
+ *
+ * The compressed sparse column (CSC) form of A has exactly the arrays of the CSR form of
+ * Aᵀ, so {@link #transpose()} doubles as the CSR to CSC conversion and
+ * {@link #multiplyTranspose(double[])} computes Aᵀx straight from the CSR arrays.
+ *
+ * Products run in parallel on the common ForkJoin pool once there are at least
+ * {@link #PARALLEL_NNZ} nonzeros.
+ */
+public final class SparseMatrix {
+    public static final int PARALLEL_NNZ = 1 << 15;
+
+    private final int rows;
+    private final int cols;
+    private final int[] rowPtr;
+    private final int[] colIndex;
+    private final double[] values;
+
+    private SparseMatrix(int rows, int cols, int[] rowPtr, int[] colIndex, double[] values) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowPtr = rowPtr;
+        this.colIndex = colIndex;
+        this.values = values;
+    }
+
+    /**
+     * Builds a matrix from coordinate (row, col, value) triplets in any order.
+     * Duplicate coordinates are summed.
+     */
+    public static SparseMatrix fromTriplets(int rows, int cols, int[] r, int[] c, double[] v) {
+        if (r.length != c.length || r.length != v.length) {
+            throw new IllegalArgumentException("Triplet arrays must have the same length");
+        }
+        int[] count = new int[rows + 1];
+        for (int k = 0; k < r.length; k++) {
+            if (r[k] < 0 || r[k] >= rows || c[k] < 0 || c[k] >= cols) {
+                throw new IllegalArgumentException("Entry (" + r[k] + "," + c[k] + ") outside " + rows + "x" + cols);
+            }
+            count[r[k] + 1]++;
+        }
+        for (int i = 0; i < rows; i++) {
+            count[i + 1] += count[i];
+        }
+        int[] next = count.clone();
+        int[] ci = new int[r.length];
+        double[] cv = new double[r.length];
+        for (int k = 0; k < r.length; k++) {
+            int dst = next[r[k]]++;
+            ci[dst] = c[k];
+            cv[dst] = v[k];
+        }
+        // Sort each row by column and merge duplicates
+        int[] rowPtr = new int[rows + 1];
+        int out = 0;
+        for (int i = 0; i < rows; i++) {
+            int start = count[i];
+            int end = count[i + 1];
+            sortRow(ci, cv, start, end);
+            for (int k = start; k < end; k++) {
+                if (out > rowPtr[i] && ci[out - 1] == ci[k]) {
+                    cv[out - 1] += cv[k];
+                } else {
+                    ci[out] = ci[k];
+                    cv[out] = cv[k];
+                    out++;
+                }
+            }
+            rowPtr[i + 1] = out;
+        }
+        return new SparseMatrix(rows, cols, rowPtr, Arrays.copyOf(ci, out), Arrays.copyOf(cv, out));
+    }
+
+    public static SparseMatrix fromDense(double[][] a) {
+        int rows = a.length;
+        int cols = rows == 0 ? 0 : a[0].length;
+        int nnz = 0;
+        for (double[] row : a) {
+            for (double v : row) {
+                if (v != 0) {
+                    nnz++;
+                }
+            }
+        }
+        int[] rowPtr = new int[rows + 1];
+        int[] ci = new int[nnz];
+        double[] cv = new double[nnz];
+        int k = 0;
+        for (int i = 0; i < rows; i++) {
+            if (a[i].length != cols) {
+                throw new IllegalArgumentException("All rows must have the same length");
+            }
+            for (int j = 0; j < cols; j++) {
+                if (a[i][j] != 0) {
+                    ci[k] = j;
+                    cv[k] = a[i][j];
+                    k++;
+                }
+            }
+            rowPtr[i + 1] = k;
+        }
+        return new SparseMatrix(rows, cols, rowPtr, ci, cv);
+    }
+
+    public double[][] toDense() {
+        double[][] d = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int k = rowPtr[i]; k < rowPtr[i + 1]; k++) {
+                d[i][colIndex[k]] = values[k];
+            }
+        }
+        return d;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getNonZeros() {
+        return values.length;
+    }
+
+    public double get(int i, int j) {
+        int k = Arrays.binarySearch(colIndex, rowPtr[i], rowPtr[i + 1], j);
+        return k >= 0 ? values[k] : 0;
+    }
+
+    /**
+     * Sparse matrix-vector product y = Ax, one independent dot product per row.
+     */
+    public double[] multiply(double[] x) {
+        if (x.length != cols) {
+            throw new IllegalArgumentException("Vector length " + x.length + " does not match " + cols + " columns");
+        }
+        double[] y = new double[rows];
+        if (values.length >= PARALLEL_NNZ) {
+            IntStream.range(0, rows).parallel().forEach(i -> y[i] = rowDot(i, x));
+        } else {
+            for (int i = 0; i < rows; i++) {
+                y[i] = rowDot(i, x);
+            }
+        }
+        return y;
+    }
+
+    private double rowDot(int i, double[] x) {
+        double sum = 0;
+        for (int k = rowPtr[i]; k < rowPtr[i + 1]; k++) {
+            sum += values[k] * x[colIndex[k]];
+        }
+        return sum;
+    }
+
+    /**
+     * y = Aᵀx by scattering each row; i.e. a CSC matrix-vector product on the same arrays.
+     */
+    public double[] multiplyTranspose(double[] x) {
+        if (x.length != rows) {
+            throw new IllegalArgumentException("Vector length " + x.length + " does not match " + rows + " rows");
+        }
+        double[] y = new double[cols];
+        for (int i = 0; i < rows; i++) {
+            double xi = x[i];
+            if (xi != 0) {
+                for (int k = rowPtr[i]; k < rowPtr[i + 1]; k++) {
+                    y[colIndex[k]] += values[k] * xi;
+                }
+            }
+        }
+        return y;
+    }
+
+    /**
+     * Aᵀ in CSR form, which is also A in CSC form. Linear in rows + cols + nonzeros.
+     */
+    public SparseMatrix transpose() {
+        int[] ptr = new int[cols + 1];
+        for (int c : colIndex) {
+            ptr[c + 1]++;
+        }
+        for (int j = 0; j < cols; j++) {
+            ptr[j + 1] += ptr[j];
+        }
+        int[] next = ptr.clone();
+        int[] ci = new int[values.length];
+        double[] cv = new double[values.length];
+        for (int i = 0; i < rows; i++) {
+            for (int k = rowPtr[i]; k < rowPtr[i + 1]; k++) {
+                int dst = next[colIndex[k]]++;
+                ci[dst] = i;
+                cv[dst] = values[k];
+            }
+        }
+        return new SparseMatrix(cols, rows, ptr, ci, cv);
+    }
+
+    /**
+     * Sparse matrix-matrix product C = AB (Gustavson's row-by-row algorithm). Rows of C are
+     * computed in parallel blocks, each with its own dense accumulator of length
+     * {@code b.cols}, then stitched together.
+     */
+    public SparseMatrix multiply(SparseMatrix b) {
+        if (cols != b.rows) {
+            throw new IllegalArgumentException("Number of columns of A must equal number of rows of B");
+        }
+        int[][] rowCols = new int[rows][];
+        double[][] rowVals = new double[rows][];
+        int blocks = values.length + b.values.length >= PARALLEL_NNZ
+                ? Math.min(rows, Runtime.getRuntime().availableProcessors() * 4) : 1;
+        int blockSize = blocks == 0 ? 0 : (rows + blocks - 1) / blocks;
+        IntStream range = IntStream.range(0, blocks);
+        (blocks > 1 ? range.parallel() : range).forEach(blk -> {
+            double[] acc = new double[b.cols];
+            int[] mark = new int[b.cols];
+            Arrays.fill(mark, -1);
+            int[] touched = new int[b.cols];
+            int end = Math.min(rows, (blk + 1) * blockSize);
+            for (int i = blk * blockSize; i < end; i++) {
+                int n = 0;
+                for (int ka = rowPtr[i]; ka < rowPtr[i + 1]; ka++) {
+                    double av = values[ka];
+                    int row = colIndex[ka];
+                    for (int kb = b.rowPtr[row]; kb < b.rowPtr[row + 1]; kb++) {
+                        int j = b.colIndex[kb];
+                        if (mark[j] != i) {
+                            mark[j] = i;
+                            acc[j] = 0;
+                            touched[n++] = j;
+                        }
+                        acc[j] += av * b.values[kb];
+                    }
+                }
+                Arrays.sort(touched, 0, n);
+                int[] ci = Arrays.copyOf(touched, n);
+                double[] cv = new double[n];
+                for (int k = 0; k < n; k++) {
+                    cv[k] = acc[ci[k]];
+                }
+                rowCols[i] = ci;
+                rowVals[i] = cv;
+            }
+        });
+        int[] ptr = new int[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            ptr[i + 1] = ptr[i] + rowCols[i].length;
+        }
+        int[] ci = new int[ptr[rows]];
+        double[] cv = new double[ptr[rows]];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(rowCols[i], 0, ci, ptr[i], rowCols[i].length);
+            System.arraycopy(rowVals[i], 0, cv, ptr[i], rowVals[i].length);
+        }
+        return new SparseMatrix(rows, b.cols, ptr, ci, cv);
+    }
+
+    public boolean isSymmetric(double tolerance) {
+        if (rows != cols) {
+            return false;
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int k = rowPtr[i]; k < rowPtr[i + 1]; k++) {
+                if (Math.abs(values[k] - get(colIndex[k], i)) > tolerance) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void sortRow(int[] ci, double[] cv, int start, int end) {
+        // Rows are short; insertion sort keeps values paired with their columns
+        for (int i = start + 1; i < end; i++) {
+            int c = ci[i];
+            double v = cv[i];
+            int j = i - 1;
+            while (j >= start && ci[j] > c) {
+                ci[j + 1] = ci[j];
+                cv[j + 1] = cv[j];
+                j--;
+            }
+            ci[j + 1] = c;
+            cv[j + 1] = v;
+        }
+    }
+}
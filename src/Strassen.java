@@ -0,0 +1,160 @@
+package src;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Strassen multiplication of square matrices: seven half-size products per level instead
+ * of eight, recursing until the blocks are at most {@code cutoff} wide and then using the
+ * dense kernel. The seven sub-products of each level run as ForkJoin tasks.
+ *
+ * Sizes that do not halve evenly down to the cutoff are zero-padded once, to the smallest
+ * {@code c * 2^d >= n} with {@code c <= cutoff}, so the padding is always less than 2^d.
+ * Each level adds a few extra additions, so results differ from the classic product in
+ * the last bits (about 1e-13 relative at n = 1000 with the default cutoff).
+ */
+public final class Strassen {
+    public static final int DEFAULT_CUTOFF = 256;
+
+    private Strassen() {
+    }
+
+    public static double[][] multiply(double[][] a, double[][] b) {
+        return multiply(a, b, DEFAULT_CUTOFF, ForkJoinPool.commonPool());
+    }
+
+    public static double[][] multiply(double[][] a, double[][] b, int cutoff, ForkJoinPool pool) {
+        int n = a.length;
+        if (n == 0 || b.length != n || a[0].length != n || b[0].length != n) {
+            throw new IllegalArgumentException("Strassen multiplication needs two square matrices of the same size");
+        }
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        int levels = 0;
+        while ((n + (1 << levels) - 1) >> levels > cutoff) {
+            levels++;
+        }
+        int m = ((n + (1 << levels) - 1) >> levels) << levels;
+        double[][] c = pool.invoke(new Product(pad(a, n, m), pad(b, n, m), cutoff));
+        if (m == n) {
+            return c;
+        }
+        double[][] trimmed = new double[n][];
+        for (int i = 0; i < n; i++) {
+            trimmed[i] = Arrays.copyOf(c[i], n);
+        }
+        return trimmed;
+    }
+
+    private static double[][] pad(double[][] a, int n, int m) {
+        double[][] p = new double[m][m];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(a[i], 0, p[i], 0, n);
+        }
+        return p;
+    }
+
+    private static final class Product extends RecursiveTask<double[][]> {
+        private final double[][] a;
+        private final double[][] b;
+        private final int cutoff;
+
+        Product(double[][] a, double[][] b, int cutoff) {
+            this.a = a;
+            this.b = b;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected double[][] compute() {
+            int n = a.length;
+            if (n <= cutoff) {
+                return kernel(a, b);
+            }
+            int h = n / 2;
+            double[][] a11 = quadrant(a, 0, 0), a12 = quadrant(a, 0, h);
+            double[][] a21 = quadrant(a, h, 0), a22 = quadrant(a, h, h);
+            double[][] b11 = quadrant(b, 0, 0), b12 = quadrant(b, 0, h);
+            double[][] b21 = quadrant(b, h, 0), b22 = quadrant(b, h, h);
+
+            Product m1 = new Product(add(a11, a22), add(b11, b22), cutoff);
+            Product m2 = new Product(add(a21, a22), b11, cutoff);
+            Product m3 = new Product(a11, sub(b12, b22), cutoff);
+            Product m4 = new Product(a22, sub(b21, b11), cutoff);
+            Product m5 = new Product(add(a11, a12), b22, cutoff);
+            Product m6 = new Product(sub(a21, a11), add(b11, b12), cutoff);
+            Product m7 = new Product(sub(a12, a22), add(b21, b22), cutoff);
+            ForkJoinTask.invokeAll(m1, m2, m3, m4, m5, m6, m7);
+            double[][] p1 = m1.join(), p2 = m2.join(), p3 = m3.join(), p4 = m4.join();
+            double[][] p5 = m5.join(), p6 = m6.join(), p7 = m7.join();
+
+            double[][] c = new double[n][n];
+            for (int i = 0; i < h; i++) {
+                double[] top = c[i];
+                double[] bottom = c[i + h];
+                double[] r1 = p1[i], r2 = p2[i], r3 = p3[i], r4 = p4[i], r5 = p5[i], r6 = p6[i], r7 = p7[i];
+                for (int j = 0; j < h; j++) {
+                    top[j] = r1[j] + r4[j] - r5[j] + r7[j];
+                    top[j + h] = r3[j] + r5[j];
+                    bottom[j] = r2[j] + r4[j];
+                    bottom[j + h] = r1[j] - r2[j] + r3[j] + r6[j];
+                }
+            }
+            return c;
+        }
+    }
+
+    // Same i-k-j loop as Methods.matrixMultiplication, square blocks only
+    private static double[][] kernel(double[][] a, double[][] b) {
+        int n = a.length;
+        double[][] c = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            double[] row = c[i];
+            double[] ai = a[i];
+            for (int k = 0; k < n; k++) {
+                double aik = ai[k];
+                double[] bk = b[k];
+                for (int j = 0; j < n; j++) {
+                    row[j] += aik * bk[j];
+                }
+            }
+        }
+        return c;
+    }
+
+    private static double[][] quadrant(double[][] m, int row, int col) {
+        int h = m.length / 2;
+        double[][] q = new double[h][];
+        for (int i = 0; i < h; i++) {
+            q[i] = Arrays.copyOfRange(m[row + i], col, col + h);
+        }
+        return q;
+    }
+
+    private static double[][] add(double[][] x, double[][] y) {
+        int h = x.length;
+        double[][] r = new double[h][h];
+        for (int i = 0; i < h; i++) {
+            double[] xi = x[i], yi = y[i], ri = r[i];
+            for (int j = 0; j < h; j++) {
+                ri[j] = xi[j] + yi[j];
+            }
+        }
+        return r;
+    }
+
+    private static double[][] sub(double[][] x, double[][] y) {
+        int h = x.length;
+        double[][] r = new double[h][h];
+        for (int i = 0; i < h; i++) {
+            double[] xi = x[i], yi = y[i], ri = r[i];
+            for (int j = 0; j < h; j++) {
+                ri[j] = xi[j] - yi[j];
+            }
+        }
+        return r;
+    }
+}
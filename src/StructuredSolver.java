@@ -0,0 +1,329 @@
+package src;
+
+/**
+ * Solves Ax = b with the cheapest algorithm the structure of A allows. One O(n²) scan
+ * finds the lower and upper bandwidths and whether A is symmetric, then:
+ * <ul>
+ *   <li>diagonally dominant tridiagonal: the Thomas algorithm, O(n)</li>
+ *   <li>narrow band: banded LU with partial pivoting, O(n·p·(p+q))</li>
+ *   <li>symmetric with a positive diagonal: Cholesky, n³/3 flops</li>
+ *   <li>anything else: general LU ({@link LUDecomposition}), 2n³/3 flops</li>
+ * </ul>
+ * Banded and Cholesky are only picked when their estimated flop count beats the dense
+ * alternatives. Thomas does no pivoting, which is only stable when A is diagonally
+ * dominant (by rows or by columns); other tridiagonal matrices go to banded LU, still
+ * O(n). Thomas and Cholesky also detect breakdown (a tiny pivot, or a matrix that is not
+ * positive definite) and hand over to the next general path; the note in the
+ * {@link Solution} says so.
+ */
+public final class StructuredSolver {
+    public enum Path {
+        TRIDIAGONAL("Thomas algorithm (tridiagonal)"),
+        BANDED("Banded LU"),
+        CHOLESKY("Cholesky (symmetric positive definite)"),
+        LU("LU with partial pivoting");
+
+        private final String label;
+
+        Path(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final double PIVOT_TOLERANCE = 1e-12;
+
+    private StructuredSolver() {
+    }
+
+    public static Solution solve(double[][] a, double[] b) {
+        long start = System.nanoTime();
+        int n = a.length;
+        if (n == 0 || b.length != n) {
+            throw new IllegalArgumentException("Matrix and right-hand side sizes do not match");
+        }
+        int lower = 0;
+        int upper = 0;
+        boolean symmetric = true;
+        double scale = 0;
+        for (int i = 0; i < n; i++) {
+            double[] row = a[i];
+            if (row.length != n) {
+                throw new IllegalArgumentException("Coefficient matrix must be square");
+            }
+            for (int j = 0; j < n; j++) {
+                double v = row[j];
+                if (v != 0) {
+                    scale = Math.max(scale, Math.abs(v));
+                    if (j < i) {
+                        lower = Math.max(lower, i - j);
+                    } else if (j > i) {
+                        upper = Math.max(upper, j - i);
+                    }
+                }
+                if (j < i && v != a[j][i]) {
+                    symmetric = false;
+                }
+            }
+        }
+        if (scale == 0) {
+            throw new IllegalArgumentException("Matrix is singular, system has no unique solution");
+        }
+        double bandedCost = 2.0 * n * lower * (lower + upper + 1) + 2.0 * n * (2 * lower + upper + 1);
+        double choleskyCost = n * (double) n * n / 3 + 2.0 * n * n;
+        double luCost = 2 * n * (double) n * n / 3 + 2.0 * n * n;
+        boolean positiveDiagonal = true;
+        for (int i = 0; i < n; i++) {
+            positiveDiagonal &= a[i][i] > 0;
+        }
+
+        String note = null;
+        if (lower <= 1 && upper <= 1) {
+            if (!diagonallyDominant(a)) {
+                note = "Tridiagonal but not diagonally dominant; used banded LU with pivoting";
+                return new Solution(bandedLu(a, b, lower, upper, scale), Path.BANDED, bandedCost, lower, upper, note,
+                        System.nanoTime() - start);
+            }
+            double[] x = thomas(a, b, scale);
+            if (x != null) {
+                return new Solution(x, Path.TRIDIAGONAL, 8.0 * n, lower, upper, null, System.nanoTime() - start);
+            }
+            note = "Thomas algorithm hit a near-zero pivot; used banded LU with pivoting";
+            return new Solution(bandedLu(a, b, lower, upper, scale), Path.BANDED, bandedCost, lower, upper, note,
+                    System.nanoTime() - start);
+        }
+        if (symmetric && positiveDiagonal && choleskyCost < bandedCost) {
+            double[] x = cholesky(a, b);
+            if (x != null) {
+                return new Solution(x, Path.CHOLESKY, choleskyCost, lower, upper, null, System.nanoTime() - start);
+            }
+            note = "Symmetric but not positive definite; Cholesky abandoned";
+        }
+        if (bandedCost < luCost) {
+            return new Solution(bandedLu(a, b, lower, upper, scale), Path.BANDED, bandedCost, lower, upper, note,
+                    System.nanoTime() - start);
+        }
+        return new Solution(new LUDecomposition(a).solve(b), Path.LU, luCost, lower, upper, note,
+                System.nanoTime() - start);
+    }
+
+    // |a_ii| >= the rest of row i for every row, or of column i for every column (tridiagonal A)
+    private static boolean diagonallyDominant(double[][] a) {
+        int n = a.length;
+        boolean rows = true;
+        boolean columns = true;
+        for (int i = 0; i < n && (rows || columns); i++) {
+            double diagonal = Math.abs(a[i][i]);
+            double left = i > 0 ? Math.abs(a[i][i - 1]) : 0;
+            double right = i + 1 < n ? Math.abs(a[i][i + 1]) : 0;
+            double above = i > 0 ? Math.abs(a[i - 1][i]) : 0;
+            double below = i + 1 < n ? Math.abs(a[i + 1][i]) : 0;
+            rows &= diagonal >= left + right;
+            columns &= diagonal >= above + below;
+        }
+        return rows || columns;
+    }
+
+    // Tridiagonal elimination without pivoting; null if a pivot is too small to trust
+    private static double[] thomas(double[][] a, double[] b, double scale) {
+        int n = b.length;
+        double[] c = new double[n];
+        double[] d = new double[n];
+        double pivot = a[0][0];
+        if (Math.abs(pivot) <= PIVOT_TOLERANCE * scale) {
+            return null;
+        }
+        c[0] = n > 1 ? a[0][1] / pivot : 0;
+        d[0] = b[0] / pivot;
+        for (int i = 1; i < n; i++) {
+            double sub = a[i][i - 1];
+            pivot = a[i][i] - sub * c[i - 1];
+            if (Math.abs(pivot) <= PIVOT_TOLERANCE * scale) {
+                return null;
+            }
+            c[i] = i + 1 < n ? a[i][i + 1] / pivot : 0;
+            d[i] = (b[i] - sub * d[i - 1]) / pivot;
+        }
+        double[] x = new double[n];
+        x[n - 1] = d[n - 1];
+        for (int i = n - 2; i >= 0; i--) {
+            x[i] = d[i] - c[i] * x[i + 1];
+        }
+        return x;
+    }
+
+    /**
+     * LU with partial pivoting restricted to the band. Row swaps can push the upper band
+     * of U out to p + q, so row i keeps columns [i - p, i + p + q] at index j - i + p.
+     */
+    private static double[] bandedLu(double[][] a, double[] b, int p, int q, double scale) {
+        int n = b.length;
+        int width = 2 * p + q + 1;
+        double[][] band = new double[n][width];
+        for (int i = 0; i < n; i++) {
+            int from = Math.max(0, i - p);
+            int to = Math.min(n - 1, i + q);
+            System.arraycopy(a[i], from, band[i], from - i + p, to - from + 1);
+        }
+        double[] rhs = b.clone();
+        for (int k = 0; k < n; k++) {
+            int last = Math.min(n - 1, k + p);
+            int end = Math.min(n - 1, k + p + q);
+            int pivotRow = k;
+            for (int i = k + 1; i <= last; i++) {
+                if (Math.abs(band[i][k - i + p]) > Math.abs(band[pivotRow][k - pivotRow + p])) {
+                    pivotRow = i;
+                }
+            }
+            if (pivotRow != k) {
+                // Columns left of k are already eliminated in both rows
+                double[] rk = band[k];
+                double[] rr = band[pivotRow];
+                for (int j = k; j <= end; j++) {
+                    double t = rk[j - k + p];
+                    rk[j - k + p] = rr[j - pivotRow + p];
+                    rr[j - pivotRow + p] = t;
+                }
+                double t = rhs[k];
+                rhs[k] = rhs[pivotRow];
+                rhs[pivotRow] = t;
+            }
+            double[] rk = band[k];
+            double pivot = rk[p];
+            if (Math.abs(pivot) <= PIVOT_TOLERANCE * scale) {
+                throw new IllegalArgumentException("Matrix is singular, system has no unique solution");
+            }
+            for (int i = k + 1; i <= last; i++) {
+                double[] ri = band[i];
+                double factor = ri[k - i + p] / pivot;
+                if (factor == 0) {
+                    continue;
+                }
+                ri[k - i + p] = 0;
+                for (int j = k + 1; j <= end; j++) {
+                    ri[j - i + p] -= factor * rk[j - k + p];
+                }
+                rhs[i] -= factor * rhs[k];
+            }
+        }
+        double[] x = new double[n];
+        for (int i = n - 1; i >= 0; i--) {
+            double[] ri = band[i];
+            double sum = rhs[i];
+            int end = Math.min(n - 1, i + p + q);
+            for (int j = i + 1; j <= end; j++) {
+                sum -= ri[j - i + p] * x[j];
+            }
+            x[i] = sum / ri[p];
+        }
+        return x;
+    }
+
+    // Row-oriented Cholesky A = LLᵀ; null if A turns out not to be positive definite
+    private static double[] cholesky(double[][] a, double[] b) {
+        int n = b.length;
+        double[][] l = new double[n][];
+        for (int i = 0; i < n; i++) {
+            double[] li = new double[i + 1];
+            double[] ai = a[i];
+            for (int j = 0; j <= i; j++) {
+                double[] lj = j == i ? li : l[j];
+                double sum = ai[j];
+                for (int k = 0; k < j; k++) {
+                    sum -= li[k] * lj[k];
+                }
+                if (j == i) {
+                    if (!(sum > 0)) {
+                        return null;
+                    }
+                    li[i] = Math.sqrt(sum);
+                } else {
+                    li[j] = sum / lj[j];
+                }
+            }
+            l[i] = li;
+        }
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            double[] li = l[i];
+            double sum = b[i];
+            for (int k = 0; k < i; k++) {
+                sum -= li[k] * y[k];
+            }
+            y[i] = sum / li[i];
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double sum = y[i];
+            for (int k = i + 1; k < n; k++) {
+                sum -= l[k][i] * y[k];
+            }
+            y[i] = sum / l[i][i];
+        }
+        return y;
+    }
+
+    public static final class Solution {
+        private final double[] x;
+        private final Path path;
+        private final double flops;
+        private final int lowerBandwidth;
+        private final int upperBandwidth;
+        private final String note;
+        private final long nanos;
+
+        Solution(double[] x, Path path, double flops, int lowerBandwidth, int upperBandwidth, String note, long nanos) {
+            this.x = x;
+            this.path = path;
+            this.flops = flops;
+            this.lowerBandwidth = lowerBandwidth;
+            this.upperBandwidth = upperBandwidth;
+            this.note = note;
+            this.nanos = nanos;
+        }
+
+        public double[] getSolution() {
+            return x.clone();
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        /** Estimated floating-point operations of the chosen algorithm. */
+        public double getFlops() {
+            return flops;
+        }
+
+        public int getLowerBandwidth() {
+            return lowerBandwidth;
+        }
+
+        public int getUpperBandwidth() {
+            return upperBandwidth;
+        }
+
+        /** Why a cheaper path was abandoned, or null. */
+        public String getNote() {
+            return note;
+        }
+
+        /** Wall time including the structure scan. */
+        public long getNanos() {
+            return nanos;
+        }
+
+        public String describe() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Solved with ").append(path.getLabel());
+            sb.append(String.format(" (bandwidth %d/%d, ~%.3g flops, %.3f ms)", lowerBandwidth, upperBandwidth,
+                    flops, nanos / 1e6));
+            if (note != null) {
+                sb.append("\nNote: ").append(note);
+            }
+            return sb.toString();
+        }
+    }
+}
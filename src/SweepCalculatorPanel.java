@@ -0,0 +1,253 @@
+package src;
+
+import javax.swing.*;
+import java.awt.*;
+
+
+public class SweepCalculatorPanel extends JPanel {
+    private final JTextField functionField;
+    private final JTextField parameterField;
+    private final JTextField fromField;
+    private final JTextField toField;
+    private final JTextField pointsField;
+    private final JComboBox<String> methodBox;
+    private final JTextField guess1Field;
+    private final JTextField guess2Field;
+    private final JLabel guess1Label;
+    private final JLabel guess2Label;
+    private final JTextField toleranceField;
+    private final JButton computeButton;
+    private static final int MAX_ITERATIONS = 100;
+    private static final String[] METHODS = {"Newton-Raphson", "Secant", "Bisection", "Fixed-Point", "False Position"};
+
+
+    private final Color backgroundColor = new Color(18, 23, 30);
+    private final Color panelColor = new Color(35, 42, 52);
+    private final Color accentColor = new Color(115, 138, 247);
+    private final Color successColor = new Color(76, 209, 149);
+    private final Color errorColor = new Color(251, 85, 85);
+    private final Color textColor = new Color(236, 239, 244);
+    private final Color textSecondaryColor = new Color(160, 170, 190);
+
+    private final Color inputFieldColor = new Color(46, 54, 66);
+
+    public SweepCalculatorPanel() {
+        setLayout(new BorderLayout(0, 0));
+        setBackground(backgroundColor);
+
+        JPanel headerPanel = new JPanel();
+        headerPanel.setLayout(new BoxLayout(headerPanel, BoxLayout.Y_AXIS));
+        headerPanel.setOpaque(false);
+        JLabel title = new JLabel("Parameter Sweep");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 22));
+        title.setForeground(accentColor);
+        title.setAlignmentX(Component.CENTER_ALIGNMENT);
+        title.setBorder(BorderFactory.createEmptyBorder(20, 0, 0, 0));
+        JLabel desc = new JLabel("Solve f(x; p) = 0 for every p on a grid; each solve starts from the root at the previous p.");
+        desc.setFont(new Font("Segoe UI", Font.PLAIN, 15));
+        desc.setForeground(textSecondaryColor);
+        desc.setAlignmentX(Component.CENTER_ALIGNMENT);
+        desc.setBorder(BorderFactory.createEmptyBorder(10, 30, 10, 30));
+        headerPanel.add(title);
+        headerPanel.add(desc);
+        add(headerPanel, BorderLayout.NORTH);
+
+        JPanel inputPanel = new RoundedPanel(18, panelColor);
+        inputPanel.setLayout(new BoxLayout(inputPanel, BoxLayout.Y_AXIS));
+        inputPanel.setBorder(BorderFactory.createEmptyBorder(20, 60, 20, 60));
+        add(inputPanel, BorderLayout.CENTER);
+
+        JLabel instr = new JLabel("Use x for the unknown and any other name for the parameter. Example: x^3 - p*x - 1 over p from 0 to 3");
+        instr.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        instr.setForeground(textSecondaryColor);
+        instr.setAlignmentX(Component.CENTER_ALIGNMENT);
+        instr.setBorder(BorderFactory.createEmptyBorder(8, 10, 16, 10));
+        inputPanel.add(instr);
+
+        functionField = createStyledField(24);
+        functionField.setText("x^3 - p*x - 1");
+        inputPanel.add(createRow(createLabel("f(x; p) = "), functionField));
+
+        parameterField = createStyledField(3);
+        parameterField.setText("p");
+        fromField = createStyledField(6);
+        fromField.setText("0");
+        toField = createStyledField(6);
+        toField.setText("3");
+        pointsField = createStyledField(7);
+        pointsField.setText("1000");
+        inputPanel.add(createRow(createLabel("Parameter: "), parameterField, createLabel("  from "), fromField,
+                createLabel(" to "), toField, createLabel("  Points: "), pointsField));
+
+        methodBox = new JComboBox<>(METHODS);
+        methodBox.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        methodBox.setBackground(inputFieldColor);
+        methodBox.setForeground(textColor);
+        toleranceField = createStyledField(6);
+        toleranceField.setText("0.0001");
+        inputPanel.add(createRow(createLabel("Method: "), methodBox, createLabel("  Tolerance: "), toleranceField));
+
+        guess1Label = createLabel("");
+        guess2Label = createLabel("");
+        guess1Field = createStyledField(6);
+        guess1Field.setText("1");
+        guess2Field = createStyledField(6);
+        guess2Field.setText("3");
+        inputPanel.add(createRow(guess1Label, guess1Field, guess2Label, guess2Field));
+        methodBox.addActionListener(e -> updateGuessLabels());
+        updateGuessLabels();
+
+        computeButton = new JButton("Compute");
+        computeButton.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        computeButton.setBackground(accentColor);
+        computeButton.setForeground(Color.WHITE);
+        computeButton.setFocusPainted(false);
+        computeButton.setBorder(BorderFactory.createEmptyBorder(12, 40, 12, 40));
+        computeButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.setOpaque(false);
+        buttonPanel.setBorder(BorderFactory.createEmptyBorder(20, 0, 20, 0));
+        buttonPanel.add(computeButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        computeButton.addActionListener(e -> compute());
+    }
+
+    private void updateGuessLabels() {
+        String method = (String) methodBox.getSelectedItem();
+        boolean bracketing = method.equals("Bisection") || method.equals("False Position");
+        boolean twoGuesses = CalculatorBackend.hasTwoGuesses(method);
+        guess1Label.setText(bracketing ? "Interval a (first point): " : "x₀ (first point): ");
+        guess2Label.setText(bracketing ? "  b: " : "  x₁: ");
+        guess2Label.setVisible(twoGuesses);
+        guess2Field.setVisible(twoGuesses);
+        revalidate();
+    }
+
+    private void compute() {
+        final String method = (String) methodBox.getSelectedItem();
+        final String function = functionField.getText().trim();
+        final String parameter = parameterField.getText().trim();
+        final double from, to, guess1, guess2, tolerance;
+        final int points;
+        try {
+            from = Double.parseDouble(fromField.getText().trim());
+            to = Double.parseDouble(toField.getText().trim());
+            points = Integer.parseInt(pointsField.getText().trim());
+            guess1 = Double.parseDouble(guess1Field.getText().trim());
+            guess2 = CalculatorBackend.hasTwoGuesses(method) ? Double.parseDouble(guess2Field.getText().trim()) : 0;
+            tolerance = Double.parseDouble(toleranceField.getText().trim());
+        } catch (NumberFormatException ex) {
+            showResultDialog("Error: every range, guess and tolerance field needs a number.", false);
+            return;
+        }
+        computeButton.setEnabled(false);
+        // Large grids take a while; keep the EDT free
+        new SwingWorker<CalculatorBackend.SweepResult, Void>() {
+            private Exception error;
+
+            @Override
+            protected CalculatorBackend.SweepResult doInBackground() {
+                try {
+                    return CalculatorBackend.sweep(method, function, parameter, from, to, points, guess1, guess2,
+                            tolerance, MAX_ITERATIONS);
+                } catch (Exception ex) {
+                    error = ex;
+                    return null;
+                }
+            }
+
+            @Override
+            protected void done() {
+                computeButton.setEnabled(true);
+                try {
+                    CalculatorBackend.SweepResult result = get();
+                    if (result == null) {
+                        showResultDialog("Error: " + error.getMessage(), false);
+                    } else {
+                        showResultDialog(result.getHistory(), result.getFailures() < result.size());
+                    }
+                } catch (Exception ex) {
+                    showResultDialog("Error: " + ex.getMessage(), false);
+                }
+            }
+        }.execute();
+    }
+
+    private JPanel createRow(JComponent... components) {
+        JPanel row = new JPanel();
+        row.setOpaque(false);
+        row.setAlignmentX(Component.CENTER_ALIGNMENT);
+        for (JComponent c : components) {
+            row.add(c);
+        }
+        return row;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setFont(new Font("Segoe UI", Font.PLAIN, 15));
+        label.setForeground(textColor);
+        return label;
+    }
+
+    private void showResultDialog(String result, boolean success) {
+
+        RoundedPanel panel = new RoundedPanel(22, panelColor);
+        panel.setLayout(new BorderLayout(0, 0));
+        panel.setBorder(BorderFactory.createEmptyBorder(18, 24, 18, 24));
+        JLabel label = new JLabel(success ? "Result" : "Error", SwingConstants.CENTER);
+        label.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        label.setForeground(success ? successColor : errorColor);
+        label.setBorder(BorderFactory.createEmptyBorder(0, 0, 16, 0));
+        panel.add(label, BorderLayout.NORTH);
+        JTextArea area = new JTextArea(result);
+        area.setFont(new Font("Consolas", Font.PLAIN, 14));
+        area.setForeground(success ? textColor : errorColor);
+        area.setBackground(panelColor);
+        area.setEditable(false);
+        area.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        area.setCaretPosition(0);
+
+        JScrollPane scroll = new JScrollPane(area);
+        scroll.setBorder(BorderFactory.createEmptyBorder());
+        scroll.setBackground(panelColor);
+        scroll.getViewport().setBackground(panelColor);
+        scroll.setPreferredSize(success ? new Dimension(720, 420) : new Dimension(420, 120));
+        panel.add(scroll, BorderLayout.CENTER);
+        JButton closeButton = new JButton("Close");
+        closeButton.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        closeButton.setBackground(success ? accentColor : errorColor);
+        closeButton.setForeground(Color.WHITE);
+        closeButton.setFocusPainted(false);
+        closeButton.setBorder(BorderFactory.createEmptyBorder(8, 20, 8, 20));
+        closeButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        buttonPanel.setOpaque(false);
+        buttonPanel.add(closeButton);
+        panel.add(buttonPanel, BorderLayout.SOUTH);
+
+        final JDialog dialog = new JDialog(SwingUtilities.getWindowAncestor(this));
+        dialog.setUndecorated(true);
+        dialog.setModal(true);
+        dialog.setContentPane(panel);
+        closeButton.addActionListener(e -> dialog.dispose());
+        dialog.getRootPane().setBorder(BorderFactory.createLineBorder(success ? successColor : errorColor, 3, true));
+        dialog.pack();
+        dialog.setLocationRelativeTo(this);
+        dialog.setVisible(true);
+    }
+
+    private JTextField createStyledField(int columns) {
+        JTextField field = new JTextField(columns);
+        field.setFont(new Font("Segoe UI", Font.PLAIN, 16));
+        field.setHorizontalAlignment(JTextField.CENTER);
+        field.setBackground(inputFieldColor);
+        field.setForeground(textColor);
+        field.setCaretColor(textColor);
+        field.setBorder(BorderFactory.createLineBorder(accentColor, 1, true));
+        field.setCursor(new Cursor(Cursor.TEXT_CURSOR));
+        return field;
+    }
+}
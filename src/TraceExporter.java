@@ -0,0 +1,172 @@
+package src;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes {@link CalculatorBackend.IterationStep} traces to disk through a {@link FileChannel}
+ * and a reusable direct buffer, so even very long traces go out in fixed-size chunks and
+ * are never built up as one String.
+ *
+ * <p>CSV: {@code iteration,x,fx,fpx,error,a,b} with one row per step. Undefined values
+ * (such as f'(x) for bisection) are written as {@code NaN}; a and b are left empty for
+ * steps without a bracket.
+ *
+ * <p>Binary ({@code .ictr}), little-endian and columnar so tools can read one column
+ * without touching the others:
+ * <pre>
+ * magic:int "ICTR"  version:int  count:int  flags:int (1 = has a/b columns)
+ * iteration:int[count]  x:double[count]  fx:double[count]  fpx:double[count]  error:double[count]
+ * a:double[count]  b:double[count]      when flags has bit 1 (missing values are NaN)
+ * </pre>
+ */
+public final class TraceExporter {
+    public static final int MAGIC = 0x52544349; // "ICTR" when read little-endian
+    public static final int VERSION = 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private TraceExporter() {
+    }
+
+    public static void writeCsv(List<CalculatorBackend.IterationStep> steps, Path file) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel ch = open(file)) {
+            ascii(ch, buf, "iteration,x,fx,fpx,error,a,b\n");
+            for (CalculatorBackend.IterationStep s : steps) {
+                ascii(ch, buf, Integer.toString(s.getIteration()));
+                put(ch, buf, ',');
+                number(ch, buf, s.getX());
+                put(ch, buf, ',');
+                number(ch, buf, s.getFx());
+                put(ch, buf, ',');
+                number(ch, buf, s.getFpx());
+                put(ch, buf, ',');
+                number(ch, buf, s.getError());
+                put(ch, buf, ',');
+                if (s.getA() != null) {
+                    number(ch, buf, s.getA());
+                }
+                put(ch, buf, ',');
+                if (s.getB() != null) {
+                    number(ch, buf, s.getB());
+                }
+                put(ch, buf, '\n');
+            }
+            drain(ch, buf);
+        }
+    }
+
+    public static void writeBinary(List<CalculatorBackend.IterationStep> steps, Path file) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        boolean bracket = false;
+        for (CalculatorBackend.IterationStep s : steps) {
+            if (s.getA() != null || s.getB() != null) {
+                bracket = true;
+                break;
+            }
+        }
+        try (FileChannel ch = open(file)) {
+            buf.putInt(MAGIC).putInt(VERSION).putInt(steps.size()).putInt(bracket ? 1 : 0);
+            for (CalculatorBackend.IterationStep s : steps) {
+                room(ch, buf, 4);
+                buf.putInt(s.getIteration());
+            }
+            int columns = bracket ? 6 : 4;
+            for (int c = 0; c < columns; c++) {
+                for (CalculatorBackend.IterationStep s : steps) {
+                    room(ch, buf, 8);
+                    buf.putDouble(column(s, c));
+                }
+            }
+            drain(ch, buf);
+        }
+    }
+
+    /**
+     * Reads a binary trace written by {@link #writeBinary}.
+     */
+    public static List<CalculatorBackend.IterationStep> readBinary(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer b = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()).order(ByteOrder.LITTLE_ENDIAN);
+            if (b.remaining() < 16 || b.getInt() != MAGIC || b.getInt() != VERSION) {
+                throw new IOException("Not an iteration trace: " + file);
+            }
+            int n = b.getInt();
+            boolean bracket = (b.getInt() & 1) != 0;
+            int columns = bracket ? 6 : 4;
+            if (n < 0 || b.remaining() != 4L * n + 8L * n * columns) {
+                throw new IOException("Truncated iteration trace: " + file);
+            }
+            int base = b.position();
+            List<CalculatorBackend.IterationStep> steps = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                int iteration = b.getInt(base + 4 * i);
+                double[] v = new double[columns];
+                for (int c = 0; c < columns; c++) {
+                    v[c] = b.getDouble(base + 4 * n + 8 * (c * n + i));
+                }
+                if (bracket) {
+                    steps.add(new CalculatorBackend.IterationStep(iteration, v[0], v[1], v[2], v[3],
+                            Double.isNaN(v[4]) ? null : v[4], Double.isNaN(v[5]) ? null : v[5]));
+                } else {
+                    steps.add(new CalculatorBackend.IterationStep(iteration, v[0], v[1], v[2], v[3]));
+                }
+            }
+            return steps;
+        }
+    }
+
+    private static double column(CalculatorBackend.IterationStep s, int c) {
+        switch (c) {
+            case 0: return s.getX();
+            case 1: return s.getFx();
+            case 2: return s.getFpx();
+            case 3: return s.getError();
+            case 4: return s.getA() == null ? Double.NaN : s.getA();
+            default: return s.getB() == null ? Double.NaN : s.getB();
+        }
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    // NaN and infinities are written as Java spells them, so a value is never an empty field
+    private static void number(FileChannel ch, ByteBuffer buf, double value) throws IOException {
+        ascii(ch, buf, Double.toString(value));
+    }
+
+    private static void ascii(FileChannel ch, ByteBuffer buf, String s) throws IOException {
+        room(ch, buf, s.length());
+        for (int i = 0; i < s.length(); i++) {
+            buf.put((byte) s.charAt(i));
+        }
+    }
+
+    private static void put(FileChannel ch, ByteBuffer buf, char c) throws IOException {
+        room(ch, buf, 1);
+        buf.put((byte) c);
+    }
+
+    private static void room(FileChannel ch, ByteBuffer buf, int bytes) throws IOException {
+        if (buf.remaining() < bytes) {
+            drain(ch, buf);
+        }
+    }
+
+    private static void drain(FileChannel ch, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            ch.write(buf);
+        }
+        buf.clear();
+    }
+}
@@ -0,0 +1,185 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A coefficient matrix that stays factorized while its entries are edited. Each edit of
+ * one entry or one row is a rank-1 change A' = A + u vᵀ, and Sherman-Morrison gives
+ *
+ * <pre>
+ * A'⁻¹b = y - w (vᵀy) / (1 + vᵀw),   y = A⁻¹b,  w = A⁻¹u
+ * </pre>
+ *
+ * so instead of refactorizing (O(n³)) each update costs one solve with the current chain,
+ * O(n² + kn) after k updates, and every later solve pays the same. Rounding error grows
+ * with the length of the chain, so after {@link #REFACTOR_INTERVAL} updates, or when
+ * 1 + vᵀw gets close to zero (the update nearly makes A singular), the matrix is
+ * factorized again from scratch.
+ *
+ * Methods are synchronized; a single instance may be shared between threads.
+ */
+public final class UpdatableLinearSystem {
+    public static final int REFACTOR_INTERVAL = 16;
+
+    private static final double DENOMINATOR_TOLERANCE = 1e-8;
+
+    private final int n;
+    private final double[][] a;
+    private LUDecomposition lu;
+    private final List<double[]> ws = new ArrayList<>();
+    private final List<double[]> vs = new ArrayList<>();
+    private final List<Double> denominators = new ArrayList<>();
+    private int factorizations;
+    private long updates;
+
+    public UpdatableLinearSystem(double[][] coefficients) {
+        n = coefficients.length;
+        a = new double[n][];
+        for (int i = 0; i < n; i++) {
+            if (coefficients[i].length != n) {
+                throw new IllegalArgumentException("Coefficient matrix must be square");
+            }
+            a[i] = coefficients[i].clone();
+        }
+        refactor();
+    }
+
+    public synchronized int size() {
+        return n;
+    }
+
+    public synchronized double[][] getMatrix() {
+        double[][] copy = new double[n][];
+        for (int i = 0; i < n; i++) {
+            copy[i] = a[i].clone();
+        }
+        return copy;
+    }
+
+    /** Number of full factorizations so far, including the initial one. */
+    public synchronized int getFactorizations() {
+        return factorizations;
+    }
+
+    /** Rank-1 updates applied since the last full factorization. */
+    public synchronized int getPendingUpdates() {
+        return ws.size();
+    }
+
+    public synchronized long getUpdates() {
+        return updates;
+    }
+
+    public synchronized void setEntry(int i, int j, double value) {
+        double delta = value - a[i][j];
+        if (delta == 0) {
+            return;
+        }
+        a[i][j] = value;
+        double[] u = new double[n];
+        u[i] = delta;
+        double[] v = new double[n];
+        v[j] = 1;
+        rankOne(u, v);
+    }
+
+    public synchronized void setRow(int i, double[] row) {
+        if (row.length != n) {
+            throw new IllegalArgumentException("Row has " + row.length + " entries, expected " + n);
+        }
+        double[] v = new double[n];
+        boolean changed = false;
+        for (int j = 0; j < n; j++) {
+            v[j] = row[j] - a[i][j];
+            changed |= v[j] != 0;
+        }
+        if (!changed) {
+            return;
+        }
+        System.arraycopy(row, 0, a[i], 0, n);
+        double[] u = new double[n];
+        u[i] = 1;
+        rankOne(u, v);
+    }
+
+    /**
+     * Replaces the whole matrix, applying the difference as row updates when few rows
+     * changed and refactorizing otherwise.
+     */
+    public synchronized void setMatrix(double[][] coefficients) {
+        if (coefficients.length != n) {
+            throw new IllegalArgumentException("Matrix has " + coefficients.length + " rows, expected " + n);
+        }
+        List<Integer> changed = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (coefficients[i].length != n) {
+                throw new IllegalArgumentException("Coefficient matrix must be square");
+            }
+            if (!Arrays.equals(coefficients[i], a[i])) {
+                changed.add(i);
+            }
+        }
+        // Each row update costs a solve, O(n²); past ~n/8 rows a fresh LU is cheaper
+        if (changed.size() > Math.max(1, n / 8)) {
+            for (int i = 0; i < n; i++) {
+                System.arraycopy(coefficients[i], 0, a[i], 0, n);
+            }
+            refactor();
+            return;
+        }
+        for (int i : changed) {
+            setRow(i, coefficients[i]);
+        }
+    }
+
+    public synchronized double[] solve(double[] b) {
+        double[] x = lu.solve(b);
+        for (int k = 0; k < ws.size(); k++) {
+            double[] v = vs.get(k);
+            double[] w = ws.get(k);
+            double scale = dot(v, x) / denominators.get(k);
+            if (scale != 0) {
+                for (int i = 0; i < n; i++) {
+                    x[i] -= scale * w[i];
+                }
+            }
+        }
+        return x;
+    }
+
+    private void rankOne(double[] u, double[] v) {
+        updates++;
+        if (ws.size() >= REFACTOR_INTERVAL || lu.isSingular()) {
+            refactor();
+            return;
+        }
+        double[] w = solve(u);
+        double denominator = 1 + dot(v, w);
+        // 1 + vᵀw cancelling to ~0 means the update (nearly) makes A singular
+        if (Math.abs(denominator) < DENOMINATOR_TOLERANCE * (1 + Math.abs(denominator - 1))) {
+            refactor();
+            return;
+        }
+        ws.add(w);
+        vs.add(v);
+        denominators.add(denominator);
+    }
+
+    private void refactor() {
+        lu = new LUDecomposition(a);
+        ws.clear();
+        vs.clear();
+        denominators.clear();
+        factorizations++;
+    }
+
+    private static double dot(double[] x, double[] y) {
+        double sum = 0;
+        for (int i = 0; i < x.length; i++) {
+            sum += x[i] * y[i];
+        }
+        return sum;
+    }
+}